@@ -0,0 +1,125 @@
+import { LitElement, html, css } from 'lit';
+import { repeat } from 'lit/directives/repeat.js';
+
+const DAY_NAMES = ['Sun', 'Mon', 'Tue', 'Wed', 'Thu', 'Fri', 'Sat'];
+
+/**
+ * Client-side calendar for CalendarComponent.
+ * Renders the month grid and handles hover styling in the browser. The server sends the month and
+ * one compact array of day totals in cents; only day clicks are sent back, as a "day-click" event.
+ */
+class ExpenseCalendar extends LitElement {
+  static properties = {
+    heading: { type: String },
+    year: { type: Number },
+    month: { type: Number },
+    totals: { type: Array }
+  };
+
+  static styles = css`
+    :host {
+      display: block;
+      width: 100%;
+      padding: var(--lumo-space-m);
+      box-sizing: border-box;
+    }
+    .heading {
+      font-size: var(--lumo-font-size-l);
+      font-weight: 700;
+      margin-bottom: var(--lumo-space-m);
+    }
+    .grid {
+      display: grid;
+      grid-template-columns: repeat(7, 1fr);
+      gap: var(--lumo-space-m);
+    }
+    .day-name {
+      font-weight: 700;
+      text-align: center;
+    }
+    .cell {
+      height: 120px;
+      border-radius: var(--lumo-border-radius-m);
+    }
+    .day {
+      cursor: pointer;
+      transition: all 0.2s ease;
+      display: flex;
+      flex-direction: column;
+      align-items: center;
+      justify-content: center;
+      gap: 8px;
+      padding: var(--lumo-space-m);
+      border: 1px solid var(--lumo-contrast-10pct);
+      box-sizing: border-box;
+    }
+    .day:hover {
+      background-color: var(--lumo-contrast-5pct);
+      box-shadow: 0 2px 4px rgba(0, 0, 0, 0.1);
+    }
+    .number {
+      font-weight: 700;
+      font-size: var(--lumo-font-size-l);
+    }
+    .total {
+      font-weight: 600;
+      font-size: var(--lumo-font-size-m);
+      color: var(--lumo-success-text-color);
+    }
+  `;
+
+  constructor() {
+    super();
+    this.heading = '';
+    this.totals = [];
+  }
+
+  render() {
+    if (!this.year || !this.month) {
+      return html``;
+    }
+    // 0 = Sunday, matching the server-side calendar layout
+    const leading = new Date(this.year, this.month - 1, 1).getDay();
+    const daysInMonth = new Date(this.year, this.month, 0).getDate();
+    const trailing = (7 - ((leading + daysInMonth) % 7)) % 7;
+
+    // Cells are keyed so that switching months moves the existing day cells and only
+    // adds or removes the padding and the days that one month has and the other does not
+    const cells = [];
+    for (let i = 0; i < leading; i++) {
+      cells.push({ key: `lead-${i}` });
+    }
+    for (let day = 1; day <= daysInMonth; day++) {
+      cells.push({ key: day, day });
+    }
+    for (let i = 0; i < trailing; i++) {
+      cells.push({ key: `trail-${i}` });
+    }
+
+    return html`
+      <div class="heading">${this.heading}</div>
+      <div class="grid">
+        ${DAY_NAMES.map((name) => html`<span class="day-name">${name}</span>`)}
+        ${repeat(cells, (cell) => cell.key, (cell) => this._renderCell(cell))}
+      </div>
+    `;
+  }
+
+  _renderCell(cell) {
+    if (!cell.day) {
+      return html`<div class="cell"></div>`;
+    }
+    const cents = this.totals[cell.day - 1] || 0;
+    return html`
+      <div class="cell day" @click=${() => this._dayClicked(cell.day)}>
+        <span class="number">${cell.day}</span>
+        ${cents > 0 ? html`<span class="total">$${(cents / 100).toFixed(2)}</span>` : ''}
+      </div>`;
+  }
+
+  _dayClicked(day) {
+    this.dispatchEvent(new CustomEvent('day-click', { detail: { day } }));
+  }
+}
+
+customElements.define('expense-calendar', ExpenseCalendar);
@@ -1,25 +1,19 @@
 package com.expensetracker;
 
+import com.vaadin.flow.component.page.AppShellConfigurator;
+import com.vaadin.flow.component.page.Push;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Spring Boot application entry point for Vaadin frontend.
+ * Server push is enabled so views can apply results of asynchronous backend calls.
  */
 @SpringBootApplication
-public class ExpenseTrackerFrontendApplication {
+@Push
+public class ExpenseTrackerFrontendApplication implements AppShellConfigurator {
 
     public static void main(String[] args) {
         SpringApplication.run(ExpenseTrackerFrontendApplication.class, args);
     }
-
-    /**
-     * Create WebClient bean for HTTP requests.
-     */
-    @Bean
-    public WebClient webClient(WebClient.Builder builder) {
-        return builder.build();
-    }
 }
@@ -0,0 +1,67 @@
+package com.expensetracker.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+/**
+ * Shared HTTP transport for all backend calls.
+ * ApiClient and BalanceService use the same pooled WebClient, so there is one connection pool,
+ * one set of timeouts and one codec setup built on the {@link JacksonConfig} ObjectMapper.
+ */
+@Configuration
+public class BackendClientConfig {
+
+    /**
+     * Connection pool shared by every request to the backend.
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider backendConnectionProvider(
+            @Value("${backend.http.max-connections:200}") int maxConnections,
+            @Value("${backend.http.pending-acquire-max-count:1000}") int pendingAcquireMaxCount,
+            @Value("${backend.http.max-idle-time-ms:30000}") long maxIdleTimeMs) {
+        return ConnectionProvider.builder("backend")
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .maxIdleTime(Duration.ofMillis(maxIdleTimeMs))
+                .evictInBackground(Duration.ofMillis(maxIdleTimeMs))
+                .build();
+    }
+
+    /**
+     * WebClient for the backend API, with base URL, timeouts and the shared ObjectMapper applied.
+     */
+    @Bean
+    public WebClient backendWebClient(
+            WebClient.Builder webClientBuilder,
+            ConnectionProvider backendConnectionProvider,
+            ObjectMapper objectMapper,
+            @Value("${backend.api.url}") String backendApiUrl,
+            @Value("${backend.http.keep-alive:true}") boolean keepAlive,
+            @Value("${backend.http.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${backend.http.read-timeout-ms:10000}") long readTimeoutMs) {
+        HttpClient httpClient = HttpClient.create(backendConnectionProvider)
+                .keepAlive(keepAlive)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(readTimeoutMs));
+
+        return webClientBuilder
+                .baseUrl(backendApiUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+    }
+}
@@ -1,12 +1,23 @@
 package com.expensetracker.config;
 
+import com.expensetracker.dto.Money;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+
 /**
- * Jackson configuration for Java 8 date/time support.
+ * Jackson configuration for Java 8 date/time support and the {@link Money} type.
  * Enables proper serialization and deserialization of LocalDateTime, LocalDate, etc.
  */
 @Configuration
@@ -20,6 +31,50 @@ public class JacksonConfig {
         ObjectMapper mapper = new ObjectMapper();
         // Register the JavaTimeModule to handle Java 8 date/time types
         mapper.registerModule(new JavaTimeModule());
+        // Read and write amounts as plain JSON numbers, parsed straight into cents
+        mapper.registerModule(new SimpleModule("MoneyModule")
+                .addSerializer(Money.class, new MoneySerializer())
+                .addDeserializer(Money.class, new MoneyDeserializer()));
         return mapper;
     }
+
+    /**
+     * Write Money as a JSON number with two decimals, e.g. 12.50.
+     */
+    static class MoneySerializer extends StdScalarSerializer<Money> {
+        MoneySerializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public void serialize(Money value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+            gen.writeNumber(value.toString());
+        }
+    }
+
+    /**
+     * Read Money from a JSON number or numeric string. The parser's character buffer is
+     * parsed directly, so no BigDecimal or String is created for the amount.
+     */
+    static class MoneyDeserializer extends StdScalarDeserializer<Money> {
+        MoneyDeserializer() {
+            super(Money.class);
+        }
+
+        @Override
+        public Money deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+            JsonToken token = p.currentToken();
+            if (token == JsonToken.VALUE_NUMBER_INT) {
+                return Money.ofCents(Math.multiplyExact(p.getLongValue(), 100));
+            }
+            if (token == JsonToken.VALUE_NUMBER_FLOAT || token == JsonToken.VALUE_STRING) {
+                try {
+                    return Money.parse(p.getTextCharacters(), p.getTextOffset(), p.getTextLength());
+                } catch (NumberFormatException | ArithmeticException e) {
+                    return (Money) ctxt.handleWeirdStringValue(Money.class, p.getText(), e.getMessage());
+                }
+            }
+            return (Money) ctxt.handleUnexpectedToken(Money.class, p);
+        }
+    }
 }
@@ -0,0 +1,26 @@
+package com.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+
+/**
+ * Expense totals over a range of months, broken down by category, week and month.
+ * Categories are ordered by total, largest first; weeks (keyed by their Monday) and months are in date order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryReport {
+    private YearMonth from;
+    private YearMonth to;
+    private Map<String, Money> categoryTotals;
+    private Map<LocalDate, Money> weekTotals;
+    private Map<YearMonth, Money> monthTotals;
+    private Money total;
+    private Integer count;
+}
@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -17,7 +16,7 @@ import java.time.LocalDateTime;
 public class ExpenseResponse {
     private Integer id;
     private LocalDate date;
-    private BigDecimal amount;
+    private Money amount;
     private String category;
     private String description;
     private LocalDateTime createdAt;
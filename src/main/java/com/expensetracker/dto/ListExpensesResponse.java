@@ -4,7 +4,6 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.util.List;
 
 /**
@@ -15,7 +14,7 @@ import java.util.List;
 @AllArgsConstructor
 public class ListExpensesResponse {
     private List<ExpenseResponse> expenses;
-    private BigDecimal total;
+    private Money total;
     private Integer count;
     private Integer year;
     private Integer month;
@@ -0,0 +1,152 @@
+package com.expensetracker.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Immutable amount of money stored as a whole number of cents.
+ * Amounts with more than two decimals are rounded half up, the same as
+ * {@code BigDecimal.setScale(2, RoundingMode.HALF_UP)}; arithmetic that overflows a long
+ * throws {@link ArithmeticException} instead of wrapping.
+ * Serialized to and from JSON as a plain decimal number, see {@code JacksonConfig}.
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0);
+
+    private final long cents;
+
+    private Money(long cents) {
+        this.cents = cents;
+    }
+
+    public static Money ofCents(long cents) {
+        return cents == 0 ? ZERO : new Money(cents);
+    }
+
+    /**
+     * Convert a decimal amount, rounding to cents half up.
+     */
+    public static Money of(BigDecimal amount) {
+        return ofCents(amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact());
+    }
+
+    /**
+     * Parse a decimal amount such as "12", "-3.5" or "19.999", rounding to cents half up.
+     */
+    public static Money parse(CharSequence text) {
+        char[] chars = text.toString().toCharArray();
+        return parse(chars, 0, chars.length);
+    }
+
+    /**
+     * Parse a decimal amount from a character range without creating intermediate objects.
+     * Numbers in exponent notation are rare and are handed to BigDecimal.
+     */
+    public static Money parse(char[] chars, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        while (i < end && Character.isWhitespace(chars[i])) {
+            i++;
+        }
+        while (end > i && Character.isWhitespace(chars[end - 1])) {
+            end--;
+        }
+        boolean negative = false;
+        if (i < end && (chars[i] == '-' || chars[i] == '+')) {
+            negative = chars[i] == '-';
+            i++;
+        }
+
+        long cents = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        boolean roundUp = false;
+        for (; i < end; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                digits++;
+                if (fractionDigits < 0) {
+                    cents = Math.addExact(Math.multiplyExact(cents, 10), c - '0');
+                } else if (fractionDigits < 2) {
+                    cents = Math.addExact(Math.multiplyExact(cents, 10), c - '0');
+                    fractionDigits++;
+                } else if (fractionDigits == 2) {
+                    // Only the first dropped digit decides half-up rounding
+                    roundUp = c >= '5';
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (c == 'e' || c == 'E') {
+                return of(new BigDecimal(chars, offset, length));
+            } else {
+                throw new NumberFormatException("Invalid amount: " + new String(chars, offset, length));
+            }
+        }
+        if (digits == 0) {
+            throw new NumberFormatException("Invalid amount: " + new String(chars, offset, length));
+        }
+        for (int scale = Math.max(fractionDigits, 0); scale < 2; scale++) {
+            cents = Math.multiplyExact(cents, 10);
+        }
+        if (roundUp) {
+            cents = Math.addExact(cents, 1);
+        }
+        return ofCents(negative ? -cents : cents);
+    }
+
+    public long getCents() {
+        return cents;
+    }
+
+    public Money plus(Money other) {
+        return ofCents(Math.addExact(cents, other.cents));
+    }
+
+    public Money minus(Money other) {
+        return ofCents(Math.subtractExact(cents, other.cents));
+    }
+
+    public int signum() {
+        return Long.signum(cents);
+    }
+
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(cents, 2);
+    }
+
+    /**
+     * Append the amount as a plain decimal with two fraction digits, e.g. "-0.05" or "123.40".
+     */
+    public StringBuilder appendTo(StringBuilder builder) {
+        if (cents < 0 && cents > -100) {
+            builder.append('-');
+        }
+        builder.append(cents / 100).append('.');
+        long fraction = Math.abs(cents % 100);
+        if (fraction < 10) {
+            builder.append('0');
+        }
+        return builder.append(fraction);
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Money && ((Money) o).cents == cents;
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(cents);
+    }
+
+    @Override
+    public String toString() {
+        return appendTo(new StringBuilder(24)).toString();
+    }
+}
@@ -0,0 +1,23 @@
+package com.expensetracker.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.YearMonth;
+
+/**
+ * Spending and balance of one month, as shown on the yearly dashboard.
+ * {@code balance} is null when the month has no balance record; {@code error} is set instead of the
+ * totals when the month's expenses could not be loaded.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MonthOverview {
+    private YearMonth month;
+    private Money total;
+    private Integer count;
+    private MonthlyBalanceResponse balance;
+    private String error;
+}
@@ -2,159 +2,507 @@ package com.expensetracker.service;
 
 import com.expensetracker.dto.*;
 import com.expensetracker.util.Logger;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * HTTP Client Service for communicating with the Spring Boot backend.
  * Handles all REST API calls for expense operations.
+ * Every operation is available as a non-blocking {@code Mono} variant (suffix {@code Async})
+ * and as a blocking variant that waits for it.
+ * Month listings are served from {@link ExpenseCache}; writes patch or invalidate the affected months.
+ * Concurrent cache misses for the same month share one backend request.
+ * Calls go through {@link ResiliencePolicy}: circuit breakers for all, retries for idempotent ones,
+ * and hedging for month listings.
  */
 @Service
 public class ApiClient {
     private static final Logger logger = new Logger(ApiClient.class);
+    private static final int CONDITIONAL_CACHE_SIZE = 64;
     private final WebClient webClient;
-    private final ObjectMapper objectMapper;
+    private final ExpenseCache expenseCache;
+    private final ResiliencePolicy resilience;
+    private final boolean streamingEnabled;
+    private final boolean pagingEnabled;
+    private final int batchChunkSize;
+    private final int batchParallelism;
+    private final SingleFlight<YearMonth, MonthColumns> listFlights = new SingleFlight<>();
+    private final ConditionalGetCache listValidators = new ConditionalGetCache(CONDITIONAL_CACHE_SIZE);
 
     public ApiClient(
-            @Value("${backend.api.url}") String backendApiUrl,
-            WebClient.Builder webClientBuilder,
-            ObjectMapper objectMapper) {
-        this.webClient = webClientBuilder.baseUrl(backendApiUrl).build();
-        this.objectMapper = objectMapper;
+            WebClient backendWebClient,
+            ExpenseCache expenseCache,
+            ResiliencePolicy resilience,
+            @Value("${expense.streaming.enabled:false}") boolean streamingEnabled,
+            @Value("${expense.paging.enabled:false}") boolean pagingEnabled,
+            @Value("${expense.batch.chunk-size:100}") int batchChunkSize,
+            @Value("${expense.batch.parallelism:4}") int batchParallelism) {
+        this.webClient = backendWebClient;
+        this.streamingEnabled = streamingEnabled;
+        this.pagingEnabled = pagingEnabled;
+        this.batchChunkSize = Math.max(1, batchChunkSize);
+        this.batchParallelism = Math.max(1, batchParallelism);
+        this.expenseCache = expenseCache;
+        this.resilience = resilience;
     }
 
     /**
      * Create a single expense.
      */
     public ExpenseResponse createExpense(LocalDate date, BigDecimal amount, String category, String description) {
-        try {
-            CreateExpenseRequest request = new CreateExpenseRequest();
-            request.setDate(date);
-            request.setAmount(amount);
-            request.setCategory(category);
-            request.setDescription(description);
-
-            logger.info("Creating expense: " + category + " - " + amount);
-
-            return webClient.post()
-                    .uri("/expenses")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ExpenseResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            logger.error("Failed to create expense: " + e.getMessage());
-            throw new RuntimeException("Failed to create expense: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            logger.error("Error creating expense: " + e.getMessage());
-            throw new RuntimeException("Error creating expense: " + e.getMessage());
-        }
+        return createExpenseAsync(date, amount, category, description).block();
+    }
+
+    /**
+     * Create a single expense without blocking the calling thread.
+     */
+    public Mono<ExpenseResponse> createExpenseAsync(LocalDate date, BigDecimal amount, String category, String description) {
+        CreateExpenseRequest request = new CreateExpenseRequest();
+        request.setDate(date);
+        request.setAmount(amount);
+        request.setCategory(category);
+        request.setDescription(description);
+
+        return resilience.nonIdempotent("createExpense", Mono.defer(() -> {
+                    logger.info("Creating expense: " + category + " - " + amount);
+                    return webClient.post()
+                            .uri("/expenses")
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(ExpenseResponse.class);
+                }))
+                .doOnNext(expenseCache::applyCreated)
+                .doOnError(e -> expenseCache.invalidate(YearMonth.from(date)))
+                .onErrorMap(e -> mapError(e, "create expense", "creating expense"));
     }
 
     /**
      * Update an existing expense.
      */
     public ExpenseResponse updateExpense(Integer id, LocalDate date, BigDecimal amount, String category, String description) {
-        try {
-            UpdateExpenseRequest request = new UpdateExpenseRequest();
-            request.setDate(date);
-            request.setAmount(amount);
-            request.setCategory(category);
-            request.setDescription(description);
-
-            logger.info("Updating expense ID: " + id);
-
-            return webClient.put()
-                    .uri("/expenses/{id}", id)
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(ExpenseResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            logger.error("Failed to update expense: " + e.getMessage());
-            throw new RuntimeException("Failed to update expense: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            logger.error("Error updating expense: " + e.getMessage());
-            throw new RuntimeException("Error updating expense: " + e.getMessage());
-        }
+        return updateExpenseAsync(id, date, amount, category, description).block();
+    }
+
+    /**
+     * Update an existing expense without blocking the calling thread.
+     */
+    public Mono<ExpenseResponse> updateExpenseAsync(Integer id, LocalDate date, BigDecimal amount, String category, String description) {
+        UpdateExpenseRequest request = new UpdateExpenseRequest();
+        request.setDate(date);
+        request.setAmount(amount);
+        request.setCategory(category);
+        request.setDescription(description);
+
+        return resilience.idempotent("updateExpense", Mono.defer(() -> {
+                    logger.info("Updating expense ID: " + id);
+                    return webClient.put()
+                            .uri("/expenses/{id}", id)
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(ExpenseResponse.class);
+                }))
+                .doOnNext(expenseCache::applyUpdated)
+                .doOnError(e -> {
+                    expenseCache.invalidateContaining(id);
+                    expenseCache.invalidate(YearMonth.from(date));
+                })
+                .onErrorMap(e -> mapError(e, "update expense", "updating expense"));
     }
 
     /**
      * Delete an expense by ID.
      */
     public void deleteExpense(Integer id) {
-        try {
-            logger.info("Deleting expense ID: " + id);
-
-            webClient.delete()
-                    .uri("/expenses/{id}", id)
-                    .retrieve()
-                    .toBodilessEntity()
-                    .block();
-        } catch (WebClientResponseException e) {
-            logger.error("Failed to delete expense: " + e.getMessage());
-            throw new RuntimeException("Failed to delete expense: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            logger.error("Error deleting expense: " + e.getMessage());
-            throw new RuntimeException("Error deleting expense: " + e.getMessage());
-        }
+        deleteExpenseAsync(id).block();
+    }
+
+    /**
+     * Delete an expense by ID without blocking the calling thread.
+     * The returned Mono completes empty once the backend has confirmed the delete.
+     */
+    public Mono<Void> deleteExpenseAsync(Integer id) {
+        return resilience.idempotent("deleteExpense", Mono.defer(() -> {
+                    logger.info("Deleting expense ID: " + id);
+                    return webClient.delete()
+                            .uri("/expenses/{id}", id)
+                            .retrieve()
+                            .toBodilessEntity();
+                }))
+                .then()
+                .doOnSuccess(v -> expenseCache.applyDeleted(id))
+                .doOnError(e -> expenseCache.invalidateContaining(id))
+                .onErrorMap(e -> mapError(e, "delete expense", "deleting expense"));
     }
 
     /**
      * List expenses for a specific month and year.
      */
     public ListExpensesResponse listExpenses(Integer year, Integer month) {
-        try {
-            logger.info("Fetching expenses for " + year + "-" + month);
-
-            return webClient.get()
-                    .uri(uriBuilder -> uriBuilder
-                            .path("/expenses")
-                            .queryParam("year", year)
-                            .queryParam("month", month)
-                            .build())
-                    .retrieve()
-                    .bodyToMono(ListExpensesResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            logger.error("Failed to list expenses: " + e.getMessage());
-            throw new RuntimeException("Failed to list expenses: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            logger.error("Error listing expenses: " + e.getMessage());
-            throw new RuntimeException("Error listing expenses: " + e.getMessage());
-        }
+        return listExpensesAsync(year, month).block();
+    }
+
+    /**
+     * List expenses for a specific month and year without blocking the calling thread.
+     * A cached month is returned without contacting the backend. The listing is built from the
+     * month's columns for each call, so callers that only need totals should use {@link #listColumnsAsync}.
+     */
+    public Mono<ListExpensesResponse> listExpensesAsync(Integer year, Integer month) {
+        return listColumnsAsync(year, month).map(MonthColumns::toResponse);
+    }
+
+    /**
+     * Get the columns of a month without blocking the calling thread, from the cache or fetched and cached.
+     * The columns are shared and immutable.
+     */
+    public Mono<MonthColumns> listColumnsAsync(Integer year, Integer month) {
+        YearMonth key = YearMonth.of(year, month);
+        return Mono.defer(() -> {
+            MonthColumns cached = expenseCache.getColumns(key);
+            if (cached != null) {
+                logger.debug("Serving expenses for " + key + " from cache");
+                return Mono.just(cached);
+            }
+            return listFlights.execute(key, () -> {
+                long generation = expenseCache.writeGeneration(key);
+                return fetchColumns(year, month)
+                        .doOnNext(columns -> expenseCache.put(key, columns, generation));
+            });
+        });
+    }
+
+    /**
+     * Get the columns of a month for a one-off read without blocking the calling thread.
+     * A cached month is served from the cache; any other month is fetched but neither cached nor
+     * indexed, so bulk reads such as analytics over many months do not evict the months users browse.
+     */
+    public Mono<MonthColumns> readColumnsAsync(Integer year, Integer month) {
+        YearMonth key = YearMonth.of(year, month);
+        return Mono.defer(() -> {
+            MonthColumns cached = expenseCache.getColumns(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            return resilience.hedged("listExpenses", () -> {
+                        logger.debug("Reading expenses for " + year + "-" + month + " without caching");
+                        return webClient.get()
+                                .uri(uriBuilder -> uriBuilder
+                                        .path("/expenses")
+                                        .queryParam("year", year)
+                                        .queryParam("month", month)
+                                        .build())
+                                .retrieve()
+                                .bodyToMono(ListExpensesResponse.class);
+                    })
+                    .map(response -> MonthColumns.of(key, response))
+                    .onErrorMap(e -> mapError(e, "list expenses", "listing expenses"));
+        });
+    }
+
+    /**
+     * List one page of a month's expenses, sorted by the backend.
+     * The returned response holds only the requested rows. Meant for callers that do not load the
+     * whole month; views that do should page its columns instead.
+     */
+    public ListExpensesResponse listExpensesPage(Integer year, Integer month, int offset, int limit,
+                                                 String sortProperty, boolean ascending) {
+        return listExpensesPageAsync(year, month, offset, limit, sortProperty, ascending).block();
+    }
+
+    /**
+     * List one page of a month's expenses without blocking the calling thread.
+     * A cached month is sorted and paged from its columns without contacting the backend.
+     * Rows with equal sort keys are ordered by ID in both cases, so consecutive pages never overlap.
+     */
+    public Mono<ListExpensesResponse> listExpensesPageAsync(Integer year, Integer month, int offset, int limit,
+                                                            String sortProperty, boolean ascending) {
+        return Mono.defer(() -> {
+            MonthColumns columns = expenseCache.getColumns(YearMonth.of(year, month));
+            if (columns != null) {
+                return Mono.just(columns.page(sortProperty, ascending, offset, limit));
+            }
+            List<String> sort = new ArrayList<>();
+            sort.add(sortProperty + "," + (ascending ? "asc" : "desc"));
+            if (!"id".equals(sortProperty)) {
+                sort.add("id,asc");
+            }
+            return resilience.idempotent("listExpensesPage", Mono.defer(() -> {
+                        logger.debug("Fetching expenses page for " + year + "-" + month
+                                + " (offset " + offset + ", limit " + limit + ", sort " + sort + ")");
+                        return webClient.get()
+                                .uri(uriBuilder -> uriBuilder
+                                        .path("/expenses")
+                                        .queryParam("year", year)
+                                        .queryParam("month", month)
+                                        .queryParam("offset", offset)
+                                        .queryParam("limit", limit)
+                                        .queryParam("sort", sort.toArray())
+                                        .build())
+                                .retrieve()
+                                .bodyToMono(ListExpensesResponse.class);
+                    }))
+                    .onErrorMap(e -> mapError(e, "list expenses page", "listing expenses page"));
+        });
+    }
+
+    /**
+     * Whether the list view renders the month lazily, one page of rows at a time.
+     */
+    public boolean isPagingEnabled() {
+        return pagingEnabled;
+    }
+
+    /**
+     * Stream the expenses of a month element by element.
+     * With streaming enabled a month with nothing stored is requested as a stream (NDJSON or a
+     * top-level JSON array) and decoded incrementally, so the whole month never has to be buffered
+     * as one document. The stream leads the month's single flight: concurrent readers of the month
+     * join it instead of sending their own request, and the collected month is cached once the stream
+     * completes. Cached months, months whose stale columns can be revalidated with a conditional GET,
+     * and months fetched with streaming disabled are emitted row by row from their columns.
+     */
+    public Flux<ExpenseResponse> streamExpensesAsync(Integer year, Integer month) {
+        YearMonth key = YearMonth.of(year, month);
+        return Flux.defer(() -> {
+            MonthColumns cached = expenseCache.getColumns(key);
+            if (cached != null) {
+                return rowsOf(cached);
+            }
+            if (!streamingEnabled || expenseCache.getStaleColumns(key) != null) {
+                return listColumnsAsync(year, month).flatMapMany(ApiClient::rowsOf);
+            }
+
+            AtomicReference<Flux<ExpenseResponse>> leading = new AtomicReference<>();
+            Mono<MonthColumns> flight = listFlights.execute(key, () -> {
+                long generation = expenseCache.writeGeneration(key);
+                // Replayed, so this caller and the flight's collector share one backend response
+                Flux<ExpenseResponse> stream = requestExpenseStream(year, month).cache();
+                leading.set(stream);
+                return stream.collectList()
+                        .map(expenses -> MonthColumns.of(key, expenses))
+                        .doOnNext(columns -> expenseCache.put(key, columns, generation));
+            });
+            // Subscribing starts the stream right away, unless a request for the month is already in flight
+            CompletableFuture<MonthColumns> shared = flight.toFuture();
+            Flux<ExpenseResponse> stream = leading.get();
+            if (stream != null) {
+                // Complete only once the month is cached, so callers can rely on it afterwards
+                return stream.concatWith(Mono.fromFuture(shared).then(Mono.<ExpenseResponse>empty()));
+            }
+            logger.debug("Joining in-flight request for " + key + " instead of streaming");
+            return Mono.fromFuture(shared).flatMapMany(ApiClient::rowsOf);
+        });
+    }
+
+    /**
+     * Send one streaming GET for a month. The response's validators are stored once the stream
+     * completes, so the month can be revalidated with a conditional GET after its TTL.
+     */
+    private Flux<ExpenseResponse> requestExpenseStream(Integer year, Integer month) {
+        String resource = "/expenses?year=" + year + "&month=" + month;
+        return resilience.nonIdempotent("streamExpenses", webClient.get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/expenses")
+                                .queryParam("year", year)
+                                .queryParam("month", month)
+                                .build())
+                        .accept(MediaType.APPLICATION_NDJSON, MediaType.APPLICATION_JSON)
+                        .retrieve()
+                        .toEntityFlux(ExpenseResponse.class)
+                        .flatMapMany(entity -> entity.getBody().doOnComplete(() -> listValidators.store(resource,
+                                entity.getHeaders().getETag(),
+                                entity.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)))))
+                .doOnSubscribe(subscription -> logger.info("Streaming expenses for " + year + "-" + month))
+                .onErrorMap(e -> mapError(e, "stream expenses", "streaming expenses"));
+    }
+
+    private static Flux<ExpenseResponse> rowsOf(MonthColumns columns) {
+        return Flux.range(0, columns.size()).map(columns::row);
+    }
+
+    /**
+     * Fetch a month from the backend as a conditional GET.
+     * On 304 Not Modified the month's cached columns are reused, even if their TTL has passed.
+     */
+    private Mono<MonthColumns> fetchColumns(Integer year, Integer month) {
+        String resource = "/expenses?year=" + year + "&month=" + month;
+        return resilience.hedged("listExpenses", () -> {
+                    logger.info("Fetching expenses for " + year + "-" + month);
+                    return requestExpenses(year, month, resource, true);
+                })
+                .onErrorMap(e -> mapError(e, "list expenses", "listing expenses"));
+    }
+
+    /**
+     * Send one GET for a month, with the stored validators when {@code conditional} is set and the
+     * month still has cached columns to reuse. If those columns were evicted by the time a 304 arrives,
+     * the GET is repeated without validators.
+     */
+    private Mono<MonthColumns> requestExpenses(Integer year, Integer month, String resource, boolean conditional) {
+        YearMonth key = YearMonth.of(year, month);
+        return webClient.get()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/expenses")
+                        .queryParam("year", year)
+                        .queryParam("month", month)
+                        .build())
+                .headers(headers -> {
+                    if (conditional && expenseCache.getStaleColumns(key) != null) {
+                        listValidators.addConditionalHeaders(resource, headers::set);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        return response.releaseBody().then(Mono.defer(() -> {
+                            MonthColumns previous = conditional ? expenseCache.getStaleColumns(key) : null;
+                            if (previous != null) {
+                                logger.debug("Expenses for " + year + "-" + month + " not modified");
+                                return Mono.just(previous);
+                            }
+                            if (!conditional) {
+                                return Mono.error(new IllegalStateException(
+                                        "304 Not Modified for unconditional request " + resource));
+                            }
+                            logger.debug("Expenses for " + year + "-" + month
+                                    + " not modified but no longer stored, fetching again");
+                            return requestExpenses(year, month, resource, false);
+                        }));
+                    }
+                    if (response.statusCode().isError()) {
+                        return response.createError();
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    return response.bodyToMono(ListExpensesResponse.class)
+                            .doOnNext(body -> listValidators.store(resource,
+                                    headers.getETag(),
+                                    headers.getFirst(HttpHeaders.LAST_MODIFIED)))
+                            .map(body -> MonthColumns.of(key, body));
+                });
     }
 
     /**
      * Batch create multiple expenses.
      */
     public BatchCreateResponse batchCreateExpenses(List<CreateExpenseRequest> expenses) {
-        try {
-            BatchCreateExpensesRequest request = new BatchCreateExpensesRequest();
-            request.setExpenses(expenses);
-
-            logger.info("Batch creating " + expenses.size() + " expenses");
-
-            return webClient.post()
-                    .uri("/expenses/batch")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(BatchCreateResponse.class)
-                    .block();
-        } catch (WebClientResponseException e) {
-            logger.error("Failed to batch create expenses: " + e.getMessage());
-            throw new RuntimeException("Failed to batch create expenses: " + e.getResponseBodyAsString());
-        } catch (Exception e) {
-            logger.error("Error batch creating expenses: " + e.getMessage());
-            throw new RuntimeException("Error batch creating expenses: " + e.getMessage());
+        return batchCreateExpensesAsync(expenses).block();
+    }
+
+    /**
+     * Batch create multiple expenses without blocking the calling thread.
+     * Lists larger than the configured chunk size are split into chunks that are posted with
+     * bounded parallelism and merged into one response, with failure indexes pointing into
+     * the original list. When a chunk request fails as a whole, its items are reported as
+     * failures so the chunks that did succeed are not lost.
+     */
+    public Mono<BatchCreateResponse> batchCreateExpensesAsync(List<CreateExpenseRequest> expenses) {
+        if (expenses.size() <= batchChunkSize) {
+            return postBatch(expenses)
+                    .onErrorMap(e -> mapError(e, "batch create expenses", "batch creating expenses"));
+        }
+
+        List<List<CreateExpenseRequest>> chunks = new ArrayList<>();
+        for (int start = 0; start < expenses.size(); start += batchChunkSize) {
+            chunks.add(expenses.subList(start, Math.min(start + batchChunkSize, expenses.size())));
+        }
+        logger.info("Batch creating " + expenses.size() + " expenses in " + chunks.size() + " chunks");
+
+        return Flux.range(0, chunks.size())
+                .flatMapSequential(chunkIndex -> {
+                    List<CreateExpenseRequest> chunk = chunks.get(chunkIndex);
+                    return postBatch(chunk)
+                            .onErrorResume(e -> Mono.just(failedChunk(chunk,
+                                    mapError(e, "batch create expenses", "batch creating expenses").getMessage())));
+                }, batchParallelism)
+                .collectList()
+                .map(this::mergeChunks);
+    }
+
+    /**
+     * Post one batch request and apply its result to the cache.
+     */
+    private Mono<BatchCreateResponse> postBatch(List<CreateExpenseRequest> expenses) {
+        BatchCreateExpensesRequest request = new BatchCreateExpensesRequest();
+        request.setExpenses(expenses);
+
+        return resilience.nonIdempotent("batchCreateExpenses", Mono.defer(() -> {
+                    logger.info("Batch creating " + expenses.size() + " expenses");
+                    return webClient.post()
+                            .uri("/expenses/batch")
+                            .bodyValue(request)
+                            .retrieve()
+                            .bodyToMono(BatchCreateResponse.class);
+                }))
+                .doOnNext(response -> {
+                    if (response.getCreated() != null) {
+                        response.getCreated().forEach(expenseCache::applyCreated);
+                    }
+                })
+                .doOnError(e -> expenses.stream()
+                        .map(expense -> YearMonth.from(expense.getDate()))
+                        .distinct()
+                        .forEach(expenseCache::invalidate));
+    }
+
+    /**
+     * Response standing in for a chunk whose request failed: every item in it is a failure.
+     */
+    private static BatchCreateResponse failedChunk(List<CreateExpenseRequest> chunk, String error) {
+        List<BatchCreateResponse.BatchFailure> failures = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            failures.add(new BatchCreateResponse.BatchFailure(i, error));
+        }
+        return new BatchCreateResponse(new ArrayList<>(), failures, 0);
+    }
+
+    /**
+     * Merge per-chunk responses (in chunk order) into one, shifting failure indexes by each chunk's offset.
+     */
+    private BatchCreateResponse mergeChunks(List<BatchCreateResponse> responses) {
+        List<ExpenseResponse> created = new ArrayList<>();
+        List<BatchCreateResponse.BatchFailure> failed = new ArrayList<>();
+        int totalCreated = 0;
+        for (int chunkIndex = 0; chunkIndex < responses.size(); chunkIndex++) {
+            BatchCreateResponse response = responses.get(chunkIndex);
+            int offset = chunkIndex * batchChunkSize;
+            if (response.getCreated() != null) {
+                created.addAll(response.getCreated());
+            }
+            if (response.getFailed() != null) {
+                for (BatchCreateResponse.BatchFailure failure : response.getFailed()) {
+                    Integer index = failure.getIndex() != null ? failure.getIndex() + offset : null;
+                    failed.add(new BatchCreateResponse.BatchFailure(index, failure.getError()));
+                }
+            }
+            totalCreated += response.getTotalCreated() != null
+                    ? response.getTotalCreated()
+                    : (response.getCreated() != null ? response.getCreated().size() : 0);
+        }
+        return new BatchCreateResponse(created, failed, totalCreated);
+    }
+
+    /**
+     * Log a failed call and translate it into the RuntimeException the views display.
+     */
+    private RuntimeException mapError(Throwable e, String action, String actionGerund) {
+        if (e instanceof WebClientResponseException responseException) {
+            logger.error("Failed to " + action + ": " + e.getMessage());
+            return new RuntimeException("Failed to " + action + ": " + responseException.getResponseBodyAsString());
         }
+        logger.error("Error " + actionGerund + ": " + e.getMessage());
+        return new RuntimeException("Error " + actionGerund + ": " + e.getMessage());
     }
 }
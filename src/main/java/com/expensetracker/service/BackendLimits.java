@@ -0,0 +1,74 @@
+package com.expensetracker.service;
+
+import com.expensetracker.util.Logger;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Per-endpoint concurrency limits for backend calls.
+ * Each endpoint reads {@code backend.limits.<endpoint>.*} and falls back to {@code backend.limits.default.*}.
+ * Limit, in-flight calls, queue depth and rejections are published as metrics tagged with the endpoint.
+ */
+@Service
+public class BackendLimits {
+    private static final String PREFIX = "backend.limits.";
+
+    private final Logger logger = new Logger(BackendLimits.class);
+    private final Environment environment;
+    private final MeterRegistry meterRegistry;
+    private final boolean adaptive;
+    private final ConcurrentMap<String, ConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+
+    public BackendLimits(Environment environment, MeterRegistry meterRegistry) {
+        this.environment = environment;
+        this.meterRegistry = meterRegistry;
+        this.adaptive = "adaptive".equalsIgnoreCase(environment.getProperty(PREFIX + "mode", "static"));
+    }
+
+    /**
+     * Limiter for an endpoint, created from configuration on first use.
+     */
+    public ConcurrencyLimiter forEndpoint(String endpoint) {
+        return limiters.computeIfAbsent(endpoint, this::createLimiter);
+    }
+
+    private ConcurrencyLimiter createLimiter(String endpoint) {
+        int maxConcurrent = intProperty(endpoint, "max-concurrent", 32);
+        int maxQueue = intProperty(endpoint, "max-queue", 64);
+        int queueTimeoutMs = intProperty(endpoint, "queue-timeout-ms", 5000);
+        logger.info("Limiting " + endpoint + " to " + maxConcurrent + " concurrent calls, queue " + maxQueue
+                + (adaptive ? " (adaptive)" : ""));
+
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                endpoint, maxConcurrent, maxQueue, Duration.ofMillis(queueTimeoutMs), adaptive);
+
+        Gauge.builder("backend.limiter.limit", limiter, ConcurrencyLimiter::getLimit)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("backend.limiter.in.flight", limiter, ConcurrencyLimiter::getInFlight)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        Gauge.builder("backend.limiter.queue.depth", limiter, ConcurrencyLimiter::getQueueDepth)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        FunctionCounter.builder("backend.limiter.rejections", limiter, ConcurrencyLimiter::getRejections)
+                .tag("endpoint", endpoint)
+                .register(meterRegistry);
+        return limiter;
+    }
+
+    private int intProperty(String endpoint, String key, int defaultValue) {
+        Integer value = environment.getProperty(PREFIX + endpoint + "." + key, Integer.class);
+        if (value == null) {
+            value = environment.getProperty(PREFIX + "default." + key, Integer.class, defaultValue);
+        }
+        return value;
+    }
+}
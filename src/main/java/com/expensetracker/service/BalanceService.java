@@ -2,79 +2,133 @@ package com.expensetracker.service;
 
 import com.expensetracker.dto.MonthlyBalanceResponse;
 import com.expensetracker.util.Logger;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.time.YearMonth;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
- * Service for calling Balance API endpoints
+ * Service for calling Balance API endpoints.
+ * Uses the shared backend WebClient from {@link com.expensetracker.config.BackendClientConfig}
+ * and the circuit breakers and retries of {@link ResiliencePolicy}.
  */
 @Service
 public class BalanceService {
+    private static final int CONDITIONAL_CACHE_SIZE = 64;
 
     private final Logger logger = new Logger(BalanceService.class);
-    private final HttpClient httpClient = HttpClient.newHttpClient();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final WebClient webClient;
+    private final ResiliencePolicy resilience;
+    private final SingleFlight<YearMonth, MonthlyBalanceResponse> balanceFlights = new SingleFlight<>();
+    private final ConditionalGetCache balanceValidators = new ConditionalGetCache(CONDITIONAL_CACHE_SIZE);
+    // Last balance per resource, answering a 304 for the validators above
+    private final Map<String, MonthlyBalanceResponse> lastBalances = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, MonthlyBalanceResponse> eldest) {
+                    return size() > CONDITIONAL_CACHE_SIZE;
+                }
+            });
+
+    public BalanceService(WebClient backendWebClient, ResiliencePolicy resilience) {
+        this.webClient = backendWebClient;
+        this.resilience = resilience;
+    }
 
-    @Value("${backend.api.url:http://localhost:8080/api}")
-    private String backendApiUrl;
-    
     /**
-     * Get monthly balance for user
+     * Get monthly balance for user.
+     * Concurrent requests for the same month share one backend call.
      */
     public MonthlyBalanceResponse getMonthlyBalance(Integer year, Integer month) throws Exception {
+        return getMonthlyBalanceAsync(year, month).block();
+    }
+
+    /**
+     * Get monthly balance without blocking the calling thread.
+     * Concurrent requests for the same month share one backend call.
+     */
+    public Mono<MonthlyBalanceResponse> getMonthlyBalanceAsync(Integer year, Integer month) {
+        return balanceFlights.execute(YearMonth.of(year, month), () -> fetchMonthlyBalance(year, month));
+    }
+
+    private Mono<MonthlyBalanceResponse> fetchMonthlyBalance(Integer year, Integer month) {
         logger.info("Getting monthly balance for " + year + "-" + month);
-        
-        String url = backendApiUrl + "/balance/" + year + "/" + month;
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .GET()
-                .header("Content-Type", "application/json")
-                .build();
-        
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        
-        if (response.statusCode() == 200) {
-            logger.info("Balance retrieved successfully");
-            return objectMapper.readValue(response.body(), MonthlyBalanceResponse.class);
-        } else {
-            logger.error("Failed to get balance. Status: " + response.statusCode());
-            throw new Exception("Failed to get balance: " + response.statusCode());
-        }
+
+        String resource = "/balance/" + year + "/" + month;
+        return resilience.idempotent("getMonthlyBalance",
+                        Mono.defer(() -> requestMonthlyBalance(year, month, resource, true)))
+                .onErrorMap(e -> mapError(e, "get balance"));
+    }
+
+    /**
+     * Send one balance GET, with the stored validators when {@code conditional} is set.
+     * If the balance a 304 refers to was evicted in the meantime, the GET is repeated without validators.
+     */
+    private Mono<MonthlyBalanceResponse> requestMonthlyBalance(Integer year, Integer month, String resource,
+                                                               boolean conditional) {
+        return webClient.get()
+                .uri("/balance/{year}/{month}", year, month)
+                .headers(headers -> {
+                    if (conditional && lastBalances.containsKey(resource)) {
+                        balanceValidators.addConditionalHeaders(resource, headers::set);
+                    }
+                })
+                .exchangeToMono(response -> {
+                    if (response.statusCode().value() == HttpStatus.NOT_MODIFIED.value()) {
+                        return response.releaseBody().then(Mono.defer(() -> {
+                            MonthlyBalanceResponse previous = conditional ? lastBalances.get(resource) : null;
+                            if (previous != null) {
+                                logger.info("Balance not modified, reusing previous response");
+                                return Mono.just(previous);
+                            }
+                            if (!conditional) {
+                                return Mono.error(new IllegalStateException(
+                                        "304 Not Modified for unconditional request " + resource));
+                            }
+                            logger.info("Balance not modified but no longer stored, fetching again");
+                            return requestMonthlyBalance(year, month, resource, false);
+                        }));
+                    }
+                    HttpHeaders headers = response.headers().asHttpHeaders();
+                    return readBalance(response, HttpStatus.OK)
+                            .doOnNext(balance -> {
+                                logger.info("Balance retrieved successfully");
+                                balanceValidators.store(resource,
+                                        headers.getETag(),
+                                        headers.getFirst(HttpHeaders.LAST_MODIFIED));
+                                lastBalances.put(resource, balance);
+                            });
+                });
     }
-    
+
     /**
      * Create monthly balance record
      */
     public MonthlyBalanceResponse createMonthlyBalance(Integer year, Integer month,
                                                        BigDecimal lastMonthBalance, BigDecimal expenseBudget) throws Exception {
         logger.info("Creating monthly balance for " + year + "-" + month);
-        
-        String url = backendApiUrl + "/balance?year=" + year + "&month=" + month +
-                "&lastMonthBalance=" + (lastMonthBalance != null ? lastMonthBalance : 0) +
-                "&expenseBudget=" + (expenseBudget != null ? expenseBudget : 0);
-        
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .POST(HttpRequest.BodyPublishers.noBody())
-                .header("Content-Type", "application/json")
-                .build();
-        
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-        
-        if (response.statusCode() == 201) {
-            logger.info("Balance created successfully");
-            return objectMapper.readValue(response.body(), MonthlyBalanceResponse.class);
-        } else {
-            logger.error("Failed to create balance. Status: " + response.statusCode());
-            throw new Exception("Failed to create balance: " + response.statusCode());
-        }
+
+        return resilience.nonIdempotent("createMonthlyBalance", webClient.post()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/balance")
+                        .queryParam("year", year)
+                        .queryParam("month", month)
+                        .queryParam("lastMonthBalance", lastMonthBalance != null ? lastMonthBalance : BigDecimal.ZERO)
+                        .queryParam("expenseBudget", expenseBudget != null ? expenseBudget : BigDecimal.ZERO)
+                        .build())
+                .exchangeToMono(response -> readBalance(response, HttpStatus.CREATED)))
+                .doOnNext(balance -> logger.info("Balance created successfully"))
+                .onErrorMap(e -> mapError(e, "create balance"))
+                .block();
     }
 
     /**
@@ -83,21 +137,39 @@ public class BalanceService {
     public MonthlyBalanceResponse updateIncomeThisWeek(Integer year, Integer month, BigDecimal income) throws Exception {
         logger.info("Updating income for " + year + "-" + month + ": " + income);
 
-        String url = backendApiUrl + "/balance/" + year + "/" + month + "/income?income=" + income;
-        HttpRequest request = HttpRequest.newBuilder()
-                .uri(URI.create(url))
-                .PUT(HttpRequest.BodyPublishers.noBody())
-                .header("Content-Type", "application/json")
-                .build();
-        
-        HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
-
-        if (response.statusCode() == 200) {
-            logger.info("Income updated successfully");
-            return objectMapper.readValue(response.body(), MonthlyBalanceResponse.class);
-        } else {
-            logger.error("Failed to update income. Status: " + response.statusCode());
-            throw new Exception("Failed to update income: " + response.statusCode());
+        // Adding income is not safe to repeat, so this PUT is not retried
+        return resilience.nonIdempotent("updateIncomeThisWeek", webClient.put()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/balance/{year}/{month}/income")
+                        .queryParam("income", income)
+                        .build(year, month))
+                .exchangeToMono(response -> readBalance(response, HttpStatus.OK)))
+                .doOnNext(balance -> logger.info("Income updated successfully"))
+                .onErrorMap(e -> mapError(e, "update income"))
+                .block();
+    }
+
+    /**
+     * Decode the balance body if the response has the expected status, otherwise fail with a
+     * {@link WebClientResponseException} so {@link ResiliencePolicy} can tell transient statuses apart.
+     */
+    private Mono<MonthlyBalanceResponse> readBalance(ClientResponse response, HttpStatus expected) {
+        if (response.statusCode().value() != expected.value()) {
+            return response.createError();
+        }
+        return response.bodyToMono(MonthlyBalanceResponse.class);
+    }
+
+    /**
+     * Log a failed status and translate it into the message the views display.
+     * Other failures are passed on unchanged.
+     */
+    private Throwable mapError(Throwable e, String action) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            logger.error("Failed to " + action + ". Status: " + status);
+            return new RuntimeException("Failed to " + action + ": " + status);
         }
+        return e;
     }
 }
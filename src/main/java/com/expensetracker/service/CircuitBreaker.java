@@ -0,0 +1,128 @@
+package com.expensetracker.service;
+
+import com.expensetracker.util.Logger;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * Circuit breaker for a single backend endpoint.
+ * After a number of consecutive failures the circuit opens and calls fail fast for a cool-down
+ * period. After that one trial call is let through: success closes the circuit, failure opens it again.
+ */
+public class CircuitBreaker {
+    private final Logger logger = new Logger(CircuitBreaker.class);
+
+    private enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    public CircuitBreaker(String name, int failureThreshold, long openDurationMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openDurationMs);
+    }
+
+    /**
+     * Run a call through the breaker. Errors matching {@code isFailure} count against the circuit;
+     * other errors (for example 4xx responses) count as a working backend. Calls rejected by the
+     * endpoint's bulkhead never reached the backend and leave the circuit as it was.
+     */
+    public <T> Mono<T> protect(Mono<T> call, Predicate<Throwable> isFailure) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                return Mono.error(new CircuitOpenException(name));
+            }
+            return call
+                    .doOnSuccess(value -> onSuccess())
+                    .doOnError(e -> onError(e, isFailure))
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    /**
+     * Run a streaming call through the breaker.
+     */
+    public <T> Flux<T> protect(Flux<T> call, Predicate<Throwable> isFailure) {
+        return Flux.defer(() -> {
+            if (!tryAcquire()) {
+                return Flux.error(new CircuitOpenException(name));
+            }
+            return call
+                    .doOnComplete(this::onSuccess)
+                    .doOnError(e -> onError(e, isFailure))
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    private synchronized boolean tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            logger.info("Circuit " + name + " half-open, letting a trial call through");
+        }
+        if (state == State.HALF_OPEN) {
+            if (trialInFlight) {
+                return false;
+            }
+            trialInFlight = true;
+        }
+        return true;
+    }
+
+    private void onError(Throwable e, Predicate<Throwable> isFailure) {
+        if (e instanceof ConcurrencyLimiter.LimitExceededException) {
+            // Rejected locally, so there is no result to count; only give up a half-open trial slot
+            onCancel();
+        } else if (isFailure.test(e)) {
+            onFailure();
+        } else {
+            onSuccess();
+        }
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            logger.info("Circuit " + name + " closed");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                logger.warn("Circuit " + name + " opened after " + consecutiveFailures + " failures");
+            }
+            state = State.OPEN;
+            openedAt = System.nanoTime();
+        }
+    }
+
+    private synchronized void onCancel() {
+        trialInFlight = false;
+    }
+
+    /**
+     * Raised instead of calling the backend while the circuit is open.
+     */
+    public static class CircuitOpenException extends RuntimeException {
+        public CircuitOpenException(String name) {
+            super("Backend temporarily unavailable (circuit open for " + name + ")");
+        }
+    }
+}
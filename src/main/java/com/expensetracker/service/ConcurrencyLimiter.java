@@ -0,0 +1,171 @@
+package com.expensetracker.service;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * Bulkhead for a single backend endpoint.
+ * At most {@code limit} calls run at once; further calls wait in a bounded queue and are rejected
+ * when the queue is full or they waited too long. In adaptive mode the limit follows AIMD:
+ * it grows by one per limit-many successful calls and shrinks by a fixed ratio on overload.
+ */
+public class ConcurrencyLimiter {
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final double MIN_LIMIT = 1;
+
+    private final String name;
+    private final int maxLimit;
+    private final int maxQueue;
+    private final Duration queueTimeout;
+    private final boolean adaptive;
+
+    private final Deque<Waiter> waiters = new ArrayDeque<>();
+    private final AtomicLong rejections = new AtomicLong();
+    private double limit;
+    private int inFlight;
+
+    public ConcurrencyLimiter(String name, int maxConcurrent, int maxQueue, Duration queueTimeout, boolean adaptive) {
+        this.name = name;
+        this.maxLimit = maxConcurrent;
+        this.maxQueue = maxQueue;
+        this.queueTimeout = queueTimeout;
+        this.adaptive = adaptive;
+        this.limit = maxConcurrent;
+    }
+
+    /**
+     * Run a call once a slot is free. Errors matching {@code isOverload} shrink an adaptive limit.
+     */
+    public <T> Mono<T> limit(Mono<T> call, Predicate<Throwable> isOverload) {
+        return Mono.defer(() -> {
+            AtomicBoolean acquired = new AtomicBoolean();
+            return acquire(acquired)
+                    .then(call)
+                    .doOnSuccess(value -> onComplete(acquired, false))
+                    .doOnError(e -> onComplete(acquired, isOverload.test(e)))
+                    .doOnCancel(() -> onComplete(acquired, false));
+        });
+    }
+
+    /**
+     * Run a streaming call once a slot is free; the slot is held until the stream terminates.
+     */
+    public <T> Flux<T> limit(Flux<T> call, Predicate<Throwable> isOverload) {
+        return Flux.defer(() -> {
+            AtomicBoolean acquired = new AtomicBoolean();
+            return acquire(acquired)
+                    .thenMany(call)
+                    .doOnComplete(() -> onComplete(acquired, false))
+                    .doOnError(e -> onComplete(acquired, isOverload.test(e)))
+                    .doOnCancel(() -> onComplete(acquired, false));
+        });
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public synchronized int getQueueDepth() {
+        return waiters.size();
+    }
+
+    public long getRejections() {
+        return rejections.get();
+    }
+
+    private Mono<Void> acquire(AtomicBoolean acquired) {
+        Mono<Void> permit = Mono.create(sink -> {
+            synchronized (this) {
+                if (waiters.isEmpty() && inFlight < (int) limit) {
+                    inFlight++;
+                    acquired.set(true);
+                    sink.success();
+                    return;
+                }
+                if (waiters.size() >= maxQueue) {
+                    rejections.incrementAndGet();
+                    sink.error(new LimitExceededException(name, "queue full"));
+                    return;
+                }
+                Waiter waiter = new Waiter(sink, acquired);
+                waiters.add(waiter);
+                sink.onCancel(() -> cancel(waiter));
+            }
+        });
+        return permit.timeout(queueTimeout)
+                .onErrorMap(TimeoutException.class, e -> {
+                    rejections.incrementAndGet();
+                    return new LimitExceededException(name, "timed out waiting for a slot");
+                });
+    }
+
+    private void cancel(Waiter waiter) {
+        synchronized (this) {
+            waiters.remove(waiter);
+        }
+        // The slot may have been granted just before the cancel arrived
+        onComplete(waiter.acquired, false);
+    }
+
+    private void onComplete(AtomicBoolean acquired, boolean overloaded) {
+        if (!acquired.getAndSet(false)) {
+            return;
+        }
+        Waiter next;
+        synchronized (this) {
+            inFlight--;
+            if (adaptive) {
+                limit = overloaded
+                        ? Math.max(MIN_LIMIT, limit * BACKOFF_RATIO)
+                        : Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            next = inFlight < (int) limit ? waiters.poll() : null;
+            if (next != null) {
+                inFlight++;
+                next.acquired.set(true);
+            }
+        }
+        if (next != null) {
+            next.sink.success();
+        }
+    }
+
+    /**
+     * Call waiting in the queue for a slot.
+     */
+    private static class Waiter {
+        final MonoSink<Void> sink;
+        final AtomicBoolean acquired;
+
+        Waiter(MonoSink<Void> sink, AtomicBoolean acquired) {
+            this.sink = sink;
+            this.acquired = acquired;
+        }
+    }
+
+    /**
+     * Raised when a call is rejected because the endpoint is at its concurrency limit.
+     */
+    public static class LimitExceededException extends RuntimeException {
+        public LimitExceededException(String name, String reason) {
+            super("Backend busy (" + name + ": " + reason + ")");
+        }
+    }
+}
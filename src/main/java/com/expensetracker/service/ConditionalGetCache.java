@@ -0,0 +1,62 @@
+package com.expensetracker.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * Stores HTTP validators (ETag / Last-Modified) per resource, so requests for a known resource
+ * can be sent as conditional GETs. Only the validators are kept: on 304 Not Modified the caller
+ * answers from its own copy of the data, and repeats the request without validators if that
+ * copy is gone. Bounded with least recently used eviction.
+ */
+public class ConditionalGetCache {
+    private final LinkedHashMap<String, Validators> entries;
+
+    public ConditionalGetCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Validators> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Add If-None-Match / If-Modified-Since headers for a resource with stored validators.
+     */
+    public synchronized void addConditionalHeaders(String resource, BiConsumer<String, String> header) {
+        Validators validators = entries.get(resource);
+        if (validators == null) {
+            return;
+        }
+        if (validators.etag != null) {
+            header.accept("If-None-Match", validators.etag);
+        }
+        if (validators.lastModified != null) {
+            header.accept("If-Modified-Since", validators.lastModified);
+        }
+    }
+
+    /**
+     * Store the validators of a 200 response.
+     * Responses without any validator clear what was stored for the resource.
+     */
+    public synchronized void store(String resource, String etag, String lastModified) {
+        if (etag == null && lastModified == null) {
+            entries.remove(resource);
+            return;
+        }
+        entries.put(resource, new Validators(etag, lastModified));
+    }
+
+    private static class Validators {
+        final String etag;
+        final String lastModified;
+
+        Validators(String etag, String lastModified) {
+            this.etag = etag;
+            this.lastModified = lastModified;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.MonthOverview;
+import com.expensetracker.dto.MonthlyBalanceResponse;
+import com.expensetracker.dto.Money;
+import com.expensetracker.util.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.YearMonth;
+import java.util.Optional;
+
+/**
+ * Loads the yearly dashboard: expenses and balance of every month of a year.
+ * All month requests are issued at once through a bounded merge, so a year costs about one
+ * backend round trip instead of twelve, and months are emitted in the order they complete.
+ */
+@Service
+public class DashboardService {
+    private final Logger logger = new Logger(DashboardService.class);
+
+    private final ApiClient apiClient;
+    private final BalanceService balanceService;
+    private final int maxConcurrentMonths;
+
+    public DashboardService(
+            ApiClient apiClient,
+            BalanceService balanceService,
+            @Value("${expense.dashboard.max-concurrent-months:12}") int maxConcurrentMonths) {
+        this.apiClient = apiClient;
+        this.balanceService = balanceService;
+        this.maxConcurrentMonths = Math.max(1, maxConcurrentMonths);
+    }
+
+    /**
+     * Load the overview of every month of a year, emitting each month as soon as it is ready.
+     * A month whose expenses fail to load is emitted with its error, so the other months still show.
+     */
+    public Flux<MonthOverview> loadYear(int year) {
+        logger.info("Loading dashboard for " + year);
+        return Flux.range(1, 12)
+                .map(month -> YearMonth.of(year, month))
+                .flatMap(this::loadMonth, maxConcurrentMonths);
+    }
+
+    private Mono<MonthOverview> loadMonth(YearMonth month) {
+        // Only the total and count are shown, so the month is read as columns without building DTOs
+        Mono<MonthColumns> expenses = apiClient.listColumnsAsync(month.getYear(), month.getMonthValue());
+        // Months without a balance record are normal, so a failed lookup only hides the balance
+        Mono<Optional<MonthlyBalanceResponse>> balance = balanceService
+                .getMonthlyBalanceAsync(month.getYear(), month.getMonthValue())
+                .map(Optional::of)
+                .onErrorResume(e -> {
+                    logger.debug("No balance for " + month + ": " + e.getMessage());
+                    return Mono.just(Optional.empty());
+                })
+                .defaultIfEmpty(Optional.empty());
+
+        return Mono.zip(expenses, balance, (columns, monthBalance) -> new MonthOverview(month,
+                        Money.ofCents(columns.getTotalCents()),
+                        columns.size(),
+                        monthBalance.orElse(null),
+                        null))
+                .onErrorResume(e -> {
+                    logger.error("Error loading dashboard month " + month + ": " + e.getMessage());
+                    return Mono.just(new MonthOverview(month, null, null, null, e.getMessage()));
+                });
+    }
+}
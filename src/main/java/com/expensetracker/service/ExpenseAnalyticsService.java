@@ -0,0 +1,239 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.CategoryReport;
+import com.expensetracker.dto.Money;
+import com.expensetracker.util.Logger;
+import com.expensetracker.util.MonthSummary;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Category, week and month totals over a range of months.
+ * Months are read concurrently through {@link ApiClient#readColumnsAsync}: cached months cost nothing,
+ * and the others are fetched without entering the shared cache or search index. They are then
+ * reduced in parallel on the service's own fork-join pool, sized to the CPU count: each month is summarized into primitive totals and the partial
+ * results are merged pairwise. Finished reports are cached per range until the TTL passes or an
+ * expense in the range is written.
+ */
+@Service
+public class ExpenseAnalyticsService {
+    private final Logger logger = new Logger(ExpenseAnalyticsService.class);
+
+    private final ApiClient apiClient;
+    private final ExpenseCache expenseCache;
+    private final ForkJoinPool reducePool;
+    private final Scheduler reduceScheduler;
+    private final int maxConcurrentMonths;
+    private final int cacheSize;
+    private final long cacheTtlNanos;
+    private final LinkedHashMap<String, CachedReport> reports;
+
+    public ExpenseAnalyticsService(
+            ApiClient apiClient,
+            ExpenseCache expenseCache,
+            @Value("${expense.analytics.max-concurrent-months:6}") int maxConcurrentMonths,
+            @Value("${expense.analytics.cache-size:16}") int cacheSize,
+            @Value("${expense.analytics.cache-ttl-seconds:300}") long cacheTtlSeconds) {
+        this.apiClient = apiClient;
+        this.expenseCache = expenseCache;
+        this.reducePool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        this.reduceScheduler = Schedulers.fromExecutorService(reducePool, "analytics-reduce");
+        this.maxConcurrentMonths = Math.max(1, maxConcurrentMonths);
+        this.cacheSize = cacheSize;
+        this.cacheTtlNanos = TimeUnit.SECONDS.toNanos(cacheTtlSeconds);
+        this.reports = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedReport> eldest) {
+                return size() > ExpenseAnalyticsService.this.cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Build the report for the months from {@code from} to {@code to}, both inclusive.
+     */
+    public CategoryReport analyze(YearMonth from, YearMonth to) {
+        return analyzeAsync(from, to).block();
+    }
+
+    /**
+     * Build the report for the months from {@code from} to {@code to} without blocking the calling thread.
+     */
+    public Mono<CategoryReport> analyzeAsync(YearMonth from, YearMonth to) {
+        if (to.isBefore(from)) {
+            return Mono.error(new IllegalArgumentException("Range end " + to + " is before its start " + from));
+        }
+        String key = from + ".." + to;
+        return Mono.defer(() -> {
+            CategoryReport cached = cachedReport(key, from, to);
+            if (cached != null) {
+                logger.debug("Serving report for " + key + " from cache");
+                return Mono.just(cached);
+            }
+            long generation = expenseCache.writeGeneration(from, to);
+            long started = System.nanoTime();
+            int months = (int) from.until(to, ChronoUnit.MONTHS) + 1;
+            return Flux.range(0, months)
+                    .map(from::plusMonths)
+                    .flatMapSequential(month -> apiClient.readColumnsAsync(month.getYear(), month.getMonthValue()),
+                            maxConcurrentMonths)
+                    .collectList()
+                    // Invoked from one of the pool's own workers, the reduction forks into the pool without blocking
+                    .publishOn(reduceScheduler)
+                    .map(data -> new ReduceTask(data, 0, data.size()).invoke())
+                    .map(partial -> partial.toReport(from, to))
+                    .doOnNext(report -> {
+                        cacheReport(key, from, to, report, generation);
+                        logger.info("Analyzed " + months + " months (" + report.getCount() + " expenses) in "
+                                + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + " ms");
+                    })
+                    .onErrorMap(e -> new RuntimeException("Failed to analyze expenses: " + e.getMessage(), e));
+        });
+    }
+
+    /**
+     * Stop the reduction pool. Reports still being reduced fail.
+     */
+    @PreDestroy
+    public void shutdown() {
+        reduceScheduler.dispose();
+    }
+
+    private synchronized CategoryReport cachedReport(String key, YearMonth from, YearMonth to) {
+        CachedReport cached = reports.get(key);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.generation != expenseCache.writeGeneration(from, to)
+                || System.nanoTime() - cached.createdAt > cacheTtlNanos) {
+            reports.remove(key);
+            return null;
+        }
+        return cached.report;
+    }
+
+    private synchronized void cacheReport(String key, YearMonth from, YearMonth to, CategoryReport report,
+                                          long generation) {
+        // A write to the range during the fetch may or may not be included, so such a report is not cached
+        if (generation == expenseCache.writeGeneration(from, to)) {
+            reports.put(key, new CachedReport(report, generation, System.nanoTime()));
+        }
+    }
+
+    private static final class CachedReport {
+        private final CategoryReport report;
+        private final long generation;
+        private final long createdAt;
+
+        private CachedReport(CategoryReport report, long generation, long createdAt) {
+            this.report = report;
+            this.generation = generation;
+            this.createdAt = createdAt;
+        }
+    }
+
+    /**
+     * Split the months in halves until one month is left, summarize it, and merge the halves.
+     */
+    private static final class ReduceTask extends RecursiveTask<Partial> {
+        private final List<MonthColumns> months;
+        private final int start;
+        private final int end;
+
+        private ReduceTask(List<MonthColumns> months, int start, int end) {
+            this.months = months;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected Partial compute() {
+            if (end - start <= 1) {
+                Partial partial = new Partial();
+                if (end > start) {
+                    partial.addMonth(months.get(start));
+                }
+                return partial;
+            }
+            int middle = (start + end) >>> 1;
+            ReduceTask left = new ReduceTask(months, start, middle);
+            left.fork();
+            Partial right = new ReduceTask(months, middle, end).compute();
+            return left.join().merge(right);
+        }
+    }
+
+    /**
+     * Totals in cents for part of the range. Each month's columns are summed into a {@link MonthSummary},
+     * so the maps only see one entry per category, week and month, not one per expense.
+     */
+    private static final class Partial {
+        private final Map<String, Long> categoryCents = new HashMap<>();
+        private final Map<LocalDate, Long> weekCents = new HashMap<>();
+        private final Map<YearMonth, Long> monthCents = new HashMap<>();
+        private long totalCents;
+        private int count;
+
+        private void addMonth(MonthColumns columns) {
+            YearMonth month = columns.getMonth();
+            MonthSummary summary = columns.summarize();
+            for (int i = 0; i < summary.getCategoryCount(); i++) {
+                categoryCents.merge(summary.getCategory(i), summary.getCategoryCents(i), Long::sum);
+            }
+            for (int day = 1; day <= month.lengthOfMonth(); day++) {
+                long cents = summary.getDayCents(day);
+                if (cents != 0) {
+                    LocalDate monday = month.atDay(day).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+                    weekCents.merge(monday, cents, Long::sum);
+                }
+            }
+            monthCents.put(month, summary.getTotalCents());
+            totalCents += summary.getTotalCents();
+            count += summary.getCount();
+        }
+
+        private Partial merge(Partial other) {
+            other.categoryCents.forEach((category, cents) -> categoryCents.merge(category, cents, Long::sum));
+            other.weekCents.forEach((week, cents) -> weekCents.merge(week, cents, Long::sum));
+            monthCents.putAll(other.monthCents);
+            totalCents += other.totalCents;
+            count += other.count;
+            return this;
+        }
+
+        private CategoryReport toReport(YearMonth from, YearMonth to) {
+            List<Map.Entry<String, Long>> categories = new ArrayList<>(categoryCents.entrySet());
+            categories.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            Map<String, Money> categoryTotals = new LinkedHashMap<>();
+            categories.forEach(entry -> categoryTotals.put(entry.getKey(), Money.ofCents(entry.getValue())));
+
+            Map<LocalDate, Money> weekTotals = new TreeMap<>();
+            weekCents.forEach((week, cents) -> weekTotals.put(week, Money.ofCents(cents)));
+            Map<YearMonth, Money> monthTotals = new TreeMap<>();
+            monthCents.forEach((month, cents) -> monthTotals.put(month, Money.ofCents(cents)));
+
+            return new CategoryReport(from, to, categoryTotals, weekTotals, monthTotals,
+                    Money.ofCents(totalCents), count);
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.util.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded month-level cache for list expense responses.
+ * Entries expire after a TTL and the least recently used month is evicted when full. Expired
+ * entries stay until evicted, so a conditional GET answered with 304 Not Modified can reuse them.
+ * Months are stored as immutable {@link MonthColumns}, which callers read directly: grid pages,
+ * totals and summaries come from the columns, and DTOs are only built for the rows that need them.
+ * Write patches replace the entry with rebuilt columns.
+ * Fetched months and applied writes are also passed to the {@link ExpenseSearchIndex}.
+ */
+@Service
+public class ExpenseCache {
+    private final Logger logger = new Logger(ExpenseCache.class);
+
+    private final ExpenseSearchIndex searchIndex;
+    private final int maxMonths;
+    private final long ttlNanos;
+    private final LinkedHashMap<YearMonth, Entry> entries;
+    private final Map<YearMonth, Long> monthGenerations = new HashMap<>();
+    private long globalGeneration;
+
+    public ExpenseCache(
+            ExpenseSearchIndex searchIndex,
+            @Value("${expense.cache.max-months:24}") int maxMonths,
+            @Value("${expense.cache.ttl-seconds:300}") long ttlSeconds) {
+        this.searchIndex = searchIndex;
+        this.maxMonths = maxMonths;
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<YearMonth, Entry> eldest) {
+                return size() > ExpenseCache.this.maxMonths;
+            }
+        };
+    }
+
+    /**
+     * Get the cached columns of a month, or null if absent or expired.
+     */
+    public synchronized MonthColumns getColumns(YearMonth month) {
+        Entry entry = entries.get(month);
+        if (entry == null || System.nanoTime() - entry.loadedAt > ttlNanos) {
+            return null;
+        }
+        return entry.columns;
+    }
+
+    /**
+     * Get the cached columns of a month even if expired, or null if evicted or invalidated.
+     * Used to answer a 304 Not Modified; {@link #put} the columns again to renew them.
+     */
+    public synchronized MonthColumns getStaleColumns(YearMonth month) {
+        Entry entry = entries.get(month);
+        return entry != null ? entry.columns : null;
+    }
+
+    /**
+     * Check whether a month is cached and still fresh.
+     */
+    public synchronized boolean isCached(YearMonth month) {
+        return getColumns(month) != null;
+    }
+
+    /**
+     * Current write generation of a month. Capture it before fetching and pass it to {@link #put}
+     * so a response that raced with a write to that month is not cached.
+     * Writes to other months leave it unchanged.
+     */
+    public synchronized long writeGeneration(YearMonth month) {
+        return globalGeneration + monthGenerations.getOrDefault(month, 0L);
+    }
+
+    /**
+     * Current write generation of the months from {@code from} to {@code to}, both inclusive.
+     * It changes whenever the generation of any month in the range changes.
+     */
+    public synchronized long writeGeneration(YearMonth from, YearMonth to) {
+        long generation = globalGeneration;
+        for (Map.Entry<YearMonth, Long> entry : monthGenerations.entrySet()) {
+            if (!entry.getKey().isBefore(from) && !entry.getKey().isAfter(to)) {
+                generation += entry.getValue();
+            }
+        }
+        return generation;
+    }
+
+    /**
+     * Cache a freshly fetched month unless a write to it happened since the fetch started.
+     * Putting the columns that are already cached (a 304 revalidation) only renews their TTL.
+     */
+    public synchronized void put(YearMonth month, MonthColumns columns, long generation) {
+        if (columns == null || generation != writeGeneration(month)) {
+            return;
+        }
+        Entry previous = entries.put(month, new Entry(columns, System.nanoTime()));
+        if (previous == null || previous.columns != columns) {
+            searchIndex.indexMonth(month, columns);
+        }
+    }
+
+    /**
+     * Drop a single month.
+     */
+    public synchronized void invalidate(YearMonth month) {
+        bump(month);
+        entries.remove(month);
+    }
+
+    /**
+     * Drop every month that contains the given expense ID.
+     */
+    public synchronized void invalidateContaining(Integer id) {
+        List<YearMonth> months = monthsContaining(id);
+        bumpAll(months);
+        months.forEach(entries::remove);
+    }
+
+    /**
+     * Add a newly created expense to its cached month, if that month is cached.
+     */
+    public synchronized void applyCreated(ExpenseResponse expense) {
+        YearMonth month = YearMonth.from(expense.getDate());
+        bump(month);
+        patch(month, expense, null);
+        searchIndex.put(expense);
+    }
+
+    /**
+     * Move an updated expense out of whichever cached month held it and into the month of its new date.
+     */
+    public synchronized void applyUpdated(ExpenseResponse expense) {
+        YearMonth target = YearMonth.from(expense.getDate());
+        List<YearMonth> sources = monthsContaining(expense.getId());
+        bumpAll(sources);
+        bump(target);
+        for (YearMonth month : sources) {
+            if (!month.equals(target)) {
+                patch(month, null, expense.getId());
+            }
+        }
+        patch(target, expense, expense.getId());
+        searchIndex.put(expense);
+    }
+
+    /**
+     * Remove a deleted expense from every cached month that held it.
+     */
+    public synchronized void applyDeleted(Integer id) {
+        List<YearMonth> months = monthsContaining(id);
+        bumpAll(months);
+        for (YearMonth month : months) {
+            patch(month, null, id);
+        }
+        searchIndex.remove(id);
+    }
+
+    /**
+     * Cached months that hold the given expense ID.
+     */
+    private List<YearMonth> monthsContaining(Integer id) {
+        List<YearMonth> months = new ArrayList<>();
+        entries.forEach((month, entry) -> {
+            if (entry.columns.indexOfId(id) >= 0) {
+                months.add(month);
+            }
+        });
+        return months;
+    }
+
+    private void bump(YearMonth month) {
+        monthGenerations.merge(month, 1L, Long::sum);
+    }
+
+    /**
+     * Bump the months an expense was found in. An expense that is in no cached month may be
+     * in a month that is being fetched right now, so then every month is bumped.
+     */
+    private void bumpAll(List<YearMonth> months) {
+        if (months.isEmpty()) {
+            globalGeneration++;
+            return;
+        }
+        months.forEach(this::bump);
+    }
+
+    /**
+     * Replace a cached month with rebuilt columns that have {@code removeId} removed and {@code added} inserted.
+     * Keeps the entry's original load time so patched data still expires on schedule.
+     */
+    private void patch(YearMonth month, ExpenseResponse added, Integer removeId) {
+        Entry entry = entries.get(month);
+        if (entry == null) {
+            return;
+        }
+        List<ExpenseResponse> expenses = entry.columns.toList();
+        if (removeId != null) {
+            int index = entry.columns.indexOfId(removeId);
+            if (index >= 0) {
+                expenses.remove(index);
+            }
+        }
+        if (added != null) {
+            expenses.add(added);
+            expenses.sort(Comparator.comparing(ExpenseResponse::getDate));
+        }
+
+        MonthColumns patched = MonthColumns.of(month, expenses);
+        entries.put(month, new Entry(patched, entry.loadedAt));
+        logger.debug("Patched cached month " + month);
+    }
+
+    /**
+     * Cached columns together with the time they were loaded.
+     */
+    private static class Entry {
+        final MonthColumns columns;
+        final long loadedAt;
+
+        Entry(MonthColumns columns, long loadedAt) {
+            this.columns = columns;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
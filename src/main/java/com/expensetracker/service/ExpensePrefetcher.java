@@ -0,0 +1,65 @@
+package com.expensetracker.service;
+
+import com.expensetracker.util.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Background prefetcher for the months adjacent to the one being viewed.
+ * Prefetched months land in {@link ExpenseCache}, so stepping to the previous or next month
+ * is usually served from memory. At most a configured number of prefetches run at once;
+ * requests beyond that budget are skipped rather than queued.
+ */
+@Service
+public class ExpensePrefetcher {
+    private final Logger logger = new Logger(ExpensePrefetcher.class);
+
+    private final ApiClient apiClient;
+    private final ExpenseCache expenseCache;
+    private final boolean enabled;
+    private final Semaphore permits;
+
+    public ExpensePrefetcher(
+            ApiClient apiClient,
+            ExpenseCache expenseCache,
+            @Value("${expense.prefetch.enabled:true}") boolean enabled,
+            @Value("${expense.prefetch.max-concurrent:4}") int maxConcurrent) {
+        this.apiClient = apiClient;
+        this.expenseCache = expenseCache;
+        this.enabled = enabled;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Prefetch the previous and next month of the given month.
+     */
+    public void prefetchAround(YearMonth month) {
+        if (!enabled) {
+            return;
+        }
+        prefetch(month.minusMonths(1));
+        prefetch(month.plusMonths(1));
+    }
+
+    /**
+     * Prefetch a single month unless it is already cached or the concurrency budget is used up.
+     */
+    public void prefetch(YearMonth month) {
+        if (expenseCache.isCached(month)) {
+            return;
+        }
+        if (!permits.tryAcquire()) {
+            logger.debug("Prefetch budget exhausted, skipping " + month);
+            return;
+        }
+        logger.debug("Prefetching expenses for " + month);
+        apiClient.listColumnsAsync(month.getYear(), month.getMonthValue())
+                .doFinally(signal -> permits.release())
+                .subscribe(
+                        columns -> { },
+                        error -> logger.warn("Prefetch failed for " + month + ": " + error.getMessage()));
+    }
+}
@@ -0,0 +1,373 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.dto.Money;
+import com.expensetracker.util.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over expense descriptions and categories.
+ * Every term maps to a sorted posting list of expense IDs. The index is fed by {@link ExpenseCache}:
+ * each month fetched from the backend is indexed, and creates, updates and deletes are applied as
+ * they succeed. The index holds more months than the cache (up to {@code expense.search.max-months},
+ * least recently indexed evicted first), so searches cover recently seen months without scanning
+ * lists or calling the backend. Documents keep only the fields a result row shows.
+ * Like the cache, the index is shared by all sessions of this frontend.
+ */
+@Service
+public class ExpenseSearchIndex {
+    private final Logger logger = new Logger(ExpenseSearchIndex.class);
+
+    private final boolean enabled;
+    private final int maxMonths;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Integer, Document> documents = new HashMap<>();
+    private final TreeMap<String, PostingList> postings = new TreeMap<>();
+    // Insertion order is indexing order, so the first month is the least recently indexed
+    private final LinkedHashMap<YearMonth, Set<Integer>> monthDocuments = new LinkedHashMap<>();
+
+    public ExpenseSearchIndex(
+            @Value("${expense.search.enabled:true}") boolean enabled,
+            @Value("${expense.search.max-months:120}") int maxMonths) {
+        this.enabled = enabled;
+        this.maxMonths = Math.max(1, maxMonths);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Replace everything indexed for a month with its freshly fetched columns.
+     */
+    public void indexMonth(YearMonth month, MonthColumns columns) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Set<Integer> previous = monthDocuments.remove(month);
+            if (previous != null) {
+                for (Integer id : new ArrayList<>(previous)) {
+                    removeDocument(id);
+                }
+            }
+            for (int row = 0; row < columns.size(); row++) {
+                removeDocument(columns.getId(row));
+                addDocument(columns.getId(row), new Document(columns.getEpochDay(row), columns.getAmountCents(row),
+                        columns.getCategory(row), columns.getDescription(row)));
+            }
+            evictMonths();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.debug("Indexed " + columns.size() + " expenses for " + month);
+    }
+
+    /**
+     * Index a created expense, or re-index an updated one.
+     */
+    public void put(ExpenseResponse expense) {
+        if (!enabled || expense.getId() == null || expense.getDate() == null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(expense.getId());
+            addDocument(expense.getId(), new Document((int) expense.getDate().toEpochDay(),
+                    expense.getAmount() != null ? expense.getAmount().getCents() : 0,
+                    expense.getCategory(), expense.getDescription()));
+            evictMonths();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a deleted expense.
+     */
+    public void remove(Integer id) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find expenses whose description or category contain every term of the query.
+     * The last term also matches as a prefix, so results update while typing.
+     * Results are ordered newest first and capped at {@code limit}. Each call returns new DTOs,
+     * without the created and updated timestamps.
+     */
+    public List<ExpenseResponse> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            List<int[]> lists = new ArrayList<>(terms.size());
+            for (int i = 0; i < terms.size() - 1; i++) {
+                PostingList list = postings.get(terms.get(i));
+                if (list == null) {
+                    return List.of();
+                }
+                lists.add(list.toArray());
+            }
+            int[] prefixMatches = prefixIds(terms.get(terms.size() - 1));
+            if (prefixMatches.length == 0) {
+                return List.of();
+            }
+            lists.add(prefixMatches);
+
+            // Intersect the shortest lists first so the candidate set shrinks fastest
+            lists.sort(Comparator.comparingInt(ids -> ids.length));
+            int[] hits = lists.get(0);
+            for (int i = 1; i < lists.size() && hits.length > 0; i++) {
+                hits = intersect(hits, lists.get(i));
+            }
+
+            // Newest first: the inverted day in the high half, the position (ascending ID) in the low half
+            long[] order = new long[hits.length];
+            for (int i = 0; i < hits.length; i++) {
+                order[i] = ((long) ~documents.get(hits[i]).epochDay << 32) | i;
+            }
+            Arrays.sort(order);
+            int count = Math.min(limit, order.length);
+            List<ExpenseResponse> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                int id = hits[(int) order[i]];
+                results.add(documents.get(id).toResponse(id));
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of indexed expenses.
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Number of months that hold indexed expenses.
+     */
+    public int indexedMonthCount() {
+        lock.readLock().lock();
+        try {
+            return monthDocuments.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-case runs of letters and digits.
+     */
+    static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+
+    private void addDocument(int id, Document document) {
+        for (String term : document.terms()) {
+            postings.computeIfAbsent(term, t -> new PostingList()).add(id);
+        }
+        documents.put(id, document);
+        YearMonth month = YearMonth.from(LocalDate.ofEpochDay(document.epochDay));
+        Set<Integer> ids = monthDocuments.remove(month);
+        if (ids == null) {
+            ids = new HashSet<>();
+        }
+        ids.add(id);
+        monthDocuments.put(month, ids);
+    }
+
+    private void removeDocument(Integer id) {
+        Document document = id != null ? documents.remove(id) : null;
+        if (document == null) {
+            return;
+        }
+        for (String term : document.terms()) {
+            PostingList list = postings.get(term);
+            if (list != null && list.remove(id) && list.size == 0) {
+                postings.remove(term);
+            }
+        }
+        YearMonth month = YearMonth.from(LocalDate.ofEpochDay(document.epochDay));
+        Set<Integer> ids = monthDocuments.get(month);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            monthDocuments.remove(month);
+        }
+    }
+
+    /**
+     * Drop the least recently indexed months until at most {@code maxMonths} remain.
+     */
+    private void evictMonths() {
+        while (monthDocuments.size() > maxMonths) {
+            YearMonth eldest = monthDocuments.keySet().iterator().next();
+            Set<Integer> ids = monthDocuments.remove(eldest);
+            for (Integer id : ids) {
+                removeDocument(id);
+            }
+            logger.debug("Evicted " + eldest + " from the search index");
+        }
+    }
+
+    /**
+     * Union of the posting lists of every term starting with {@code prefix}, sorted.
+     */
+    private int[] prefixIds(String prefix) {
+        SortedMap<String, PostingList> matches = postings.subMap(prefix, prefix + Character.MAX_VALUE);
+        if (matches.size() == 1) {
+            return matches.values().iterator().next().toArray();
+        }
+        int total = 0;
+        for (PostingList list : matches.values()) {
+            total += list.size;
+        }
+        int[] ids = new int[total];
+        int offset = 0;
+        for (PostingList list : matches.values()) {
+            System.arraycopy(list.ids, 0, ids, offset, list.size);
+            offset += list.size;
+        }
+        Arrays.sort(ids);
+        // Drop duplicates of expenses matching several of the terms
+        int unique = 0;
+        for (int i = 0; i < ids.length; i++) {
+            if (i == 0 || ids[i] != ids[i - 1]) {
+                ids[unique++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, unique);
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] result = new int[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                result[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * The fields of an expense that a search result shows. Its terms are derived from the
+     * description and category again when needed, instead of being stored.
+     */
+    private static final class Document {
+        private final int epochDay;
+        private final long amountCents;
+        private final String category;
+        private final String description;
+
+        private Document(int epochDay, long amountCents, String category, String description) {
+            this.epochDay = epochDay;
+            this.amountCents = amountCents;
+            this.category = category;
+            this.description = description;
+        }
+
+        private Set<String> terms() {
+            Set<String> terms = new HashSet<>(tokenize(description));
+            terms.addAll(tokenize(category));
+            return terms;
+        }
+
+        private ExpenseResponse toResponse(int id) {
+            return new ExpenseResponse(id, LocalDate.ofEpochDay(epochDay), Money.ofCents(amountCents),
+                    category, description, null, null);
+        }
+    }
+
+    /**
+     * Sorted, growable array of expense IDs.
+     */
+    private static final class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        private void add(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+            ids[insertAt] = id;
+            size++;
+        }
+
+        private boolean remove(int id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+            return true;
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.BatchCreateResponse;
+import com.expensetracker.dto.CreateExpenseRequest;
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.util.Logger;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Optional write-behind queue for expense creation.
+ * Creates from all sessions are collected and flushed to /expenses/batch every N items or
+ * T milliseconds, whichever comes first. Each caller gets a Mono that completes with its own
+ * created expense, or fails with its own batch failure.
+ * Relies on the backend returning created expenses in request order, skipping failed indexes.
+ */
+@Service
+public class ExpenseWriteQueue {
+    private final Logger logger = new Logger(ExpenseWriteQueue.class);
+
+    private final ApiClient apiClient;
+    private final boolean enabled;
+    private final long shutdownTimeoutMs;
+    private final Sinks.Many<PendingCreate> queue = Sinks.many().unicast().onBackpressureBuffer();
+    private final CountDownLatch drained = new CountDownLatch(1);
+    private final Disposable pipeline;
+
+    public ExpenseWriteQueue(
+            ApiClient apiClient,
+            @Value("${expense.write-behind.enabled:false}") boolean enabled,
+            @Value("${expense.write-behind.max-items:50}") int maxItems,
+            @Value("${expense.write-behind.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${expense.write-behind.shutdown-timeout-ms:5000}") long shutdownTimeoutMs) {
+        this.apiClient = apiClient;
+        this.enabled = enabled;
+        this.shutdownTimeoutMs = shutdownTimeoutMs;
+        if (!enabled) {
+            this.pipeline = null;
+            return;
+        }
+        this.pipeline = queue.asFlux()
+                .bufferTimeout(maxItems, Duration.ofMillis(flushIntervalMs))
+                .concatMap(this::flush)
+                .doFinally(signal -> drained.countDown())
+                .subscribe();
+    }
+
+    /**
+     * Whether creates should go through this queue.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue an expense for creation. The returned Mono completes once its batch has been flushed.
+     */
+    public Mono<ExpenseResponse> enqueue(CreateExpenseRequest request) {
+        return Mono.defer(() -> {
+            if (!enabled) {
+                return Mono.error(new RuntimeException("Error queueing expense: write-behind is disabled"));
+            }
+            PendingCreate pending = new PendingCreate(request);
+            Sinks.EmitResult result;
+            // Sessions emit concurrently; the unicast sink requires serialized emission
+            synchronized (queue) {
+                result = queue.tryEmitNext(pending);
+            }
+            if (result.isFailure()) {
+                return Mono.error(new RuntimeException("Error queueing expense: " + result));
+            }
+            return pending.result.asMono();
+        });
+    }
+
+    /**
+     * Send one batch and report the outcome to each queued item.
+     */
+    private Mono<Void> flush(List<PendingCreate> batch) {
+        logger.info("Flushing " + batch.size() + " queued expenses");
+        List<CreateExpenseRequest> requests = batch.stream()
+                .map(pending -> pending.request)
+                .collect(Collectors.toList());
+
+        return apiClient.batchCreateExpensesAsync(requests)
+                .doOnNext(response -> complete(batch, response))
+                .doOnError(e -> batch.forEach(pending -> pending.result.tryEmitError(e)))
+                .onErrorResume(e -> Mono.empty())
+                .then();
+    }
+
+    private void complete(List<PendingCreate> batch, BatchCreateResponse response) {
+        Map<Integer, String> failures = new HashMap<>();
+        if (response.getFailed() != null) {
+            for (BatchCreateResponse.BatchFailure failure : response.getFailed()) {
+                failures.put(failure.getIndex(), failure.getError());
+            }
+        }
+        Iterator<ExpenseResponse> created = response.getCreated() != null
+                ? response.getCreated().iterator()
+                : List.<ExpenseResponse>of().iterator();
+
+        for (int i = 0; i < batch.size(); i++) {
+            Sinks.One<ExpenseResponse> result = batch.get(i).result;
+            if (failures.containsKey(i)) {
+                result.tryEmitError(new RuntimeException("Failed to create expense: " + failures.get(i)));
+            } else if (created.hasNext()) {
+                result.tryEmitValue(created.next());
+            } else {
+                result.tryEmitError(new RuntimeException("Failed to create expense: missing from batch response"));
+            }
+        }
+    }
+
+    /**
+     * Stop accepting creates and wait up to the shutdown timeout for queued items to be flushed.
+     * Items still queued after that are dropped and their callers never complete.
+     */
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) {
+            return;
+        }
+        synchronized (queue) {
+            queue.tryEmitComplete();
+        }
+        try {
+            if (!drained.await(shutdownTimeoutMs, TimeUnit.MILLISECONDS)) {
+                logger.warn("Write-behind queue not drained within " + shutdownTimeoutMs + "ms, dropping queued creates");
+                pipeline.dispose();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            pipeline.dispose();
+        }
+    }
+
+    /**
+     * Queued create request together with the sink its caller is waiting on.
+     */
+    private static class PendingCreate {
+        final CreateExpenseRequest request;
+        final Sinks.One<ExpenseResponse> result = Sinks.one();
+
+        PendingCreate(CreateExpenseRequest request) {
+            this.request = request;
+        }
+    }
+}
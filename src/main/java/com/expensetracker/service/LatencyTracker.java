@@ -0,0 +1,48 @@
+package com.expensetracker.service;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * Sliding window of recent call latencies for one endpoint, used to derive percentiles.
+ */
+public class LatencyTracker {
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyTracker(int windowSize) {
+        this.samples = new long[windowSize];
+    }
+
+    /**
+     * Record the latency of a completed call.
+     */
+    public synchronized void record(Duration latency) {
+        samples[next] = latency.toNanos();
+        next = (next + 1) % samples.length;
+        if (size < samples.length) {
+            size++;
+        }
+    }
+
+    /**
+     * Number of samples currently in the window.
+     */
+    public synchronized int sampleCount() {
+        return size;
+    }
+
+    /**
+     * Latency at the given percentile (0-100) of the current window, or null without samples.
+     */
+    public synchronized Duration percentile(double percentile) {
+        if (size == 0) {
+            return null;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * size) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(index, size - 1))]);
+    }
+}
@@ -0,0 +1,338 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.dto.ListExpensesResponse;
+import com.expensetracker.dto.Money;
+import com.expensetracker.util.MonthSummary;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+/**
+ * Immutable columnar copy of one month of expenses, as kept by {@link ExpenseCache}.
+ * IDs, dates (epoch days), amounts (cents) and timestamps (epoch nanoseconds, UTC) are primitive
+ * arrays and categories are codes into a sorted dictionary, so a cached month holds a few arrays
+ * instead of one object graph per expense. Filtering and sorting work on the columns and produce
+ * row numbers; {@link ExpenseResponse} objects are only created for the rows a caller asks for.
+ */
+public final class MonthColumns {
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final YearMonth month;
+    private final int[] ids;
+    private final int[] epochDays;
+    private final long[] amountCents;
+    private final int[] categoryCodes;
+    private final String[] categoryDictionary;
+    private final String[] descriptions;
+    private final long[] createdAt;
+    private final long[] updatedAt;
+    private final long totalCents;
+
+    private MonthColumns(YearMonth month, List<ExpenseResponse> expenses) {
+        int size = expenses.size();
+        this.month = month;
+        this.ids = new int[size];
+        this.epochDays = new int[size];
+        this.amountCents = new long[size];
+        this.categoryCodes = new int[size];
+        this.descriptions = new String[size];
+        this.createdAt = new long[size];
+        this.updatedAt = new long[size];
+
+        TreeSet<String> categories = new TreeSet<>();
+        for (ExpenseResponse expense : expenses) {
+            if (expense.getCategory() != null) {
+                categories.add(expense.getCategory());
+            }
+        }
+        this.categoryDictionary = categories.toArray(new String[0]);
+
+        long total = 0;
+        for (int row = 0; row < size; row++) {
+            ExpenseResponse expense = expenses.get(row);
+            ids[row] = expense.getId() != null ? expense.getId() : 0;
+            epochDays[row] = (int) expense.getDate().toEpochDay();
+            amountCents[row] = expense.getAmount() != null ? expense.getAmount().getCents() : 0;
+            categoryCodes[row] = expense.getCategory() != null
+                    ? Arrays.binarySearch(categoryDictionary, expense.getCategory()) : -1;
+            descriptions[row] = expense.getDescription();
+            createdAt[row] = toEpochNanos(expense.getCreatedAt());
+            updatedAt[row] = toEpochNanos(expense.getUpdatedAt());
+            total += amountCents[row];
+        }
+        this.totalCents = total;
+    }
+
+    /**
+     * Build the columns of a month from its listing.
+     */
+    public static MonthColumns of(YearMonth month, ListExpensesResponse response) {
+        return of(month, response.getExpenses() != null ? response.getExpenses() : List.<ExpenseResponse>of());
+    }
+
+    /**
+     * Build the columns of a month from its expenses.
+     */
+    public static MonthColumns of(YearMonth month, List<ExpenseResponse> expenses) {
+        return new MonthColumns(month, expenses);
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public int getId(int row) {
+        return ids[row];
+    }
+
+    public int getEpochDay(int row) {
+        return epochDays[row];
+    }
+
+    public long getAmountCents(int row) {
+        return amountCents[row];
+    }
+
+    public String getCategory(int row) {
+        return categoryCodes[row] >= 0 ? categoryDictionary[categoryCodes[row]] : null;
+    }
+
+    public String getDescription(int row) {
+        return descriptions[row];
+    }
+
+    /**
+     * Categories occurring in the month, sorted.
+     */
+    public List<String> getCategories() {
+        return List.of(categoryDictionary);
+    }
+
+    /**
+     * Day and category totals of the month, summed straight from the columns.
+     */
+    public MonthSummary summarize() {
+        MonthSummary summary = new MonthSummary(month);
+        long firstDay = month.atDay(1).toEpochDay();
+        for (int row = 0; row < ids.length; row++) {
+            summary.add((int) (epochDays[row] - firstDay) + 1, getCategory(row), amountCents[row]);
+        }
+        return summary;
+    }
+
+    /**
+     * Row number of an expense ID, or -1.
+     */
+    public int indexOfId(Integer id) {
+        if (id == null) {
+            return -1;
+        }
+        for (int row = 0; row < ids.length; row++) {
+            if (ids[row] == id) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Every row number, in fetch order.
+     */
+    public int[] rows() {
+        int[] rows = new int[ids.length];
+        for (int row = 0; row < rows.length; row++) {
+            rows[row] = row;
+        }
+        return rows;
+    }
+
+    /**
+     * Rows in the given category, in fetch order, or every row when {@code category} is null.
+     * The category is looked up once in the dictionary, then only integer codes are compared.
+     */
+    public int[] filter(String category) {
+        if (category == null) {
+            return rows();
+        }
+        int code = Arrays.binarySearch(categoryDictionary, category);
+        if (code < 0) {
+            return new int[0];
+        }
+        int[] rows = new int[ids.length];
+        int count = 0;
+        for (int row = 0; row < categoryCodes.length; row++) {
+            if (categoryCodes[row] == code) {
+                rows[count++] = row;
+            }
+        }
+        return Arrays.copyOf(rows, count);
+    }
+
+    /**
+     * Sort rows by {@code date}, {@code amount}, {@code category}, {@code description} or {@code id}.
+     * Rows with equal keys are ordered by ascending ID, so pages of the same sort never overlap.
+     * Integer keys are packed with the row's position into one long and sorted as primitives;
+     * only descriptions need object comparisons.
+     */
+    public int[] sort(int[] rows, String property, boolean ascending) {
+        String key = property != null ? property : "date";
+        if (key.equals("id")) {
+            return sortByIntKey(rows, row -> ids[row], ascending);
+        }
+        // Both sorts below are stable, so putting the rows in ID order first makes ID the tie-breaker
+        int[] byId = sortByIntKey(rows, row -> ids[row], true);
+        switch (key) {
+            case "amount":
+                if (fitsInInt(byId, amountCents)) {
+                    return sortByIntKey(byId, row -> (int) amountCents[row], ascending);
+                }
+                Comparator<Integer> byAmount = Comparator.comparingLong(row -> amountCents[row]);
+                return sortBoxed(byId, ascending ? byAmount : byAmount.reversed());
+            case "category":
+                // The dictionary is sorted, so codes order like the names; null (-1) sorts first
+                return sortByIntKey(byId, row -> categoryCodes[row], ascending);
+            case "description":
+                Comparator<Integer> byDescription = Comparator.comparing(row -> descriptions[row],
+                        Comparator.nullsFirst(Comparator.naturalOrder()));
+                return sortBoxed(byId, ascending ? byDescription : byDescription.reversed());
+            default:
+                return sortByIntKey(byId, row -> epochDays[row], ascending);
+        }
+    }
+
+    /**
+     * One sorted page of the month, with only the page's rows turned into DTOs.
+     * Total and count describe the whole month, not just the page.
+     */
+    public ListExpensesResponse page(String sortProperty, boolean ascending, int offset, int limit) {
+        return page(null, sortProperty, ascending, offset, limit);
+    }
+
+    /**
+     * One page of the month's expenses in a category (all categories when null), sorted, with only
+     * the page's rows turned into DTOs. Total and count describe every matching row, not just the page.
+     */
+    public ListExpensesResponse page(String category, String sortProperty, boolean ascending, int offset, int limit) {
+        int[] rows = sort(filter(category), sortProperty, ascending);
+        long total = totalCents;
+        if (category != null) {
+            total = 0;
+            for (int row : rows) {
+                total += amountCents[row];
+            }
+        }
+        int from = Math.min(Math.max(offset, 0), rows.length);
+        int to = (int) Math.min((long) from + Math.max(limit, 0), rows.length);
+        List<ExpenseResponse> expenses = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            expenses.add(row(rows[i]));
+        }
+        return new ListExpensesResponse(expenses, Money.ofCents(total), rows.length,
+                month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * The whole month as a listing, in the order it was fetched.
+     */
+    public ListExpensesResponse toResponse() {
+        return new ListExpensesResponse(toList(), Money.ofCents(totalCents), ids.length,
+                month.getYear(), month.getMonthValue());
+    }
+
+    /**
+     * Copy of the month as a mutable list of new DTOs.
+     */
+    public List<ExpenseResponse> toList() {
+        List<ExpenseResponse> expenses = new ArrayList<>(ids.length);
+        for (int row = 0; row < ids.length; row++) {
+            expenses.add(row(row));
+        }
+        return expenses;
+    }
+
+    /**
+     * Create the DTO of one row.
+     */
+    public ExpenseResponse row(int row) {
+        return new ExpenseResponse(
+                ids[row],
+                LocalDate.ofEpochDay(epochDays[row]),
+                Money.ofCents(amountCents[row]),
+                getCategory(row),
+                descriptions[row],
+                fromEpochNanos(createdAt[row]),
+                fromEpochNanos(updatedAt[row]));
+    }
+
+    private interface IntKey {
+        int of(int row);
+    }
+
+    private static int[] sortByIntKey(int[] rows, IntKey key, boolean ascending) {
+        long[] packed = new long[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            int value = ascending ? key.of(rows[i]) : ~key.of(rows[i]);
+            // Key in the high half orders the longs; the position in the low half keeps ties stable
+            packed[i] = ((long) value << 32) | i;
+        }
+        Arrays.sort(packed);
+        int[] sorted = new int[rows.length];
+        for (int i = 0; i < packed.length; i++) {
+            sorted[i] = rows[(int) packed[i]];
+        }
+        return sorted;
+    }
+
+    private static int[] sortBoxed(int[] rows, Comparator<Integer> comparator) {
+        Integer[] boxed = new Integer[rows.length];
+        for (int i = 0; i < rows.length; i++) {
+            boxed[i] = rows[i];
+        }
+        Arrays.sort(boxed, comparator);
+        int[] sorted = new int[rows.length];
+        for (int i = 0; i < boxed.length; i++) {
+            sorted[i] = boxed[i];
+        }
+        return sorted;
+    }
+
+    private static boolean fitsInInt(int[] rows, long[] column) {
+        for (int row : rows) {
+            if (column[row] != (int) column[row]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long toEpochNanos(LocalDateTime time) {
+        if (time == null) {
+            return NO_TIMESTAMP;
+        }
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static LocalDateTime fromEpochNanos(long nanos) {
+        if (nanos == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(nanos, 1_000_000_000L),
+                (int) Math.floorMod(nanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
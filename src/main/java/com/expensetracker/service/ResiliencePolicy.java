@@ -0,0 +1,144 @@
+package com.expensetracker.service;
+
+import com.expensetracker.util.Logger;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Resilience policies for backend calls made by ApiClient and BalanceService.
+ * Every endpoint has its own circuit breaker. Idempotent calls are additionally retried with
+ * jittered exponential backoff, and hedged reads send a second request when the first one
+ * takes longer than the endpoint's recent p95 latency.
+ * Only transient failures (5xx, 429, I/O errors and timeouts) are retried or trip a circuit.
+ * Inside the breaker each attempt also passes the endpoint's bulkhead from {@link BackendLimits};
+ * calls the bulkhead rejects are not retried and leave the circuit unchanged.
+ */
+@Service
+public class ResiliencePolicy {
+    private final Logger logger = new Logger(ResiliencePolicy.class);
+
+    private final int maxRetries;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final double jitter;
+    private final int failureThreshold;
+    private final long openDurationMs;
+    private final boolean hedgeEnabled;
+    private final int hedgeMinSamples;
+
+    private final BackendLimits limits;
+    private final ConcurrentMap<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LatencyTracker> latencies = new ConcurrentHashMap<>();
+
+    public ResiliencePolicy(
+            BackendLimits limits,
+            @Value("${backend.resilience.retry.max-retries:2}") int maxRetries,
+            @Value("${backend.resilience.retry.initial-backoff-ms:100}") long initialBackoffMs,
+            @Value("${backend.resilience.retry.max-backoff-ms:2000}") long maxBackoffMs,
+            @Value("${backend.resilience.retry.jitter:0.5}") double jitter,
+            @Value("${backend.resilience.circuit.failure-threshold:5}") int failureThreshold,
+            @Value("${backend.resilience.circuit.open-duration-ms:30000}") long openDurationMs,
+            @Value("${backend.resilience.hedge.enabled:false}") boolean hedgeEnabled,
+            @Value("${backend.resilience.hedge.min-samples:20}") int hedgeMinSamples) {
+        this.limits = limits;
+        this.maxRetries = maxRetries;
+        this.initialBackoff = Duration.ofMillis(initialBackoffMs);
+        this.maxBackoff = Duration.ofMillis(maxBackoffMs);
+        this.jitter = jitter;
+        this.failureThreshold = failureThreshold;
+        this.openDurationMs = openDurationMs;
+        this.hedgeEnabled = hedgeEnabled;
+        this.hedgeMinSamples = hedgeMinSamples;
+    }
+
+    /**
+     * Circuit breaker only, for calls that must not be repeated (POST creates).
+     */
+    public <T> Mono<T> nonIdempotent(String endpoint, Mono<T> call) {
+        return breaker(endpoint).protect(bulkhead(endpoint, call), ResiliencePolicy::isTransient);
+    }
+
+    /**
+     * Circuit breaker only, for streams that may already have emitted elements when they fail.
+     */
+    public <T> Flux<T> nonIdempotent(String endpoint, Flux<T> call) {
+        return breaker(endpoint).protect(limits.forEndpoint(endpoint).limit(call, ResiliencePolicy::isTransient),
+                ResiliencePolicy::isTransient);
+    }
+
+    /**
+     * Circuit breaker plus retries with jittered exponential backoff, for idempotent calls.
+     */
+    public <T> Mono<T> idempotent(String endpoint, Mono<T> call) {
+        return breaker(endpoint).protect(bulkhead(endpoint, call), ResiliencePolicy::isTransient)
+                .retryWhen(retrySpec(endpoint));
+    }
+
+    /**
+     * Idempotent read that is hedged: if it has not completed within the endpoint's p95 latency,
+     * a second identical request is sent and whichever answers first wins.
+     * The recorded latency is that of the whole attempt, whichever request won, so slow primaries
+     * that were overtaken by a hedge still push the p95 up.
+     */
+    public <T> Mono<T> hedged(String endpoint, Supplier<Mono<T>> call) {
+        LatencyTracker tracker = latencies.computeIfAbsent(endpoint, key -> new LatencyTracker(256));
+        Mono<T> attempt = Mono.defer(() -> {
+                    Mono<T> primary = bulkhead(endpoint, Mono.defer(call));
+                    Duration p95 = tracker.percentile(95);
+                    if (!hedgeEnabled || p95 == null || tracker.sampleCount() < hedgeMinSamples) {
+                        return primary;
+                    }
+                    Mono<T> hedge = Mono.delay(p95)
+                            .doOnNext(tick -> logger.debug("Hedging " + endpoint + " after " + p95.toMillis() + "ms"))
+                            .then(bulkhead(endpoint, Mono.defer(call)));
+                    return Mono.firstWithSignal(primary, hedge);
+                })
+                .elapsed()
+                .doOnNext(result -> tracker.record(Duration.ofMillis(result.getT1())))
+                .map(result -> result.getT2());
+
+        return breaker(endpoint).protect(attempt, ResiliencePolicy::isTransient)
+                .retryWhen(retrySpec(endpoint));
+    }
+
+    private <T> Mono<T> bulkhead(String endpoint, Mono<T> call) {
+        return limits.forEndpoint(endpoint).limit(call, ResiliencePolicy::isTransient);
+    }
+
+    private Retry retrySpec(String endpoint) {
+        return Retry.backoff(maxRetries, initialBackoff)
+                .maxBackoff(maxBackoff)
+                .jitter(jitter)
+                .filter(ResiliencePolicy::isTransient)
+                .doBeforeRetry(signal -> logger.warn("Retrying " + endpoint + " (attempt "
+                        + (signal.totalRetries() + 2) + "): " + signal.failure().getMessage()))
+                .onRetryExhaustedThrow((spec, signal) -> signal.failure());
+    }
+
+    private CircuitBreaker breaker(String endpoint) {
+        return breakers.computeIfAbsent(endpoint,
+                key -> new CircuitBreaker(key, failureThreshold, openDurationMs));
+    }
+
+    /**
+     * Whether a failure is worth retrying and should count against the circuit.
+     */
+    static boolean isTransient(Throwable e) {
+        if (e instanceof WebClientResponseException responseException) {
+            int status = responseException.getStatusCode().value();
+            return status >= 500 || status == 429;
+        }
+        return e instanceof WebClientRequestException || e instanceof TimeoutException;
+    }
+}
@@ -0,0 +1,51 @@
+package com.expensetracker.service;
+
+import com.expensetracker.util.Logger;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical backend reads.
+ * While a call for a key is in flight, further callers for the same key share its result
+ * instead of issuing their own request. Once the call completes the key is released,
+ * so the next caller starts a fresh request.
+ */
+public class SingleFlight<K, V> {
+    private final Logger logger = new Logger(SingleFlight.class);
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Run a non-blocking call, or join the one already in flight for this key.
+     */
+    public Mono<V> execute(K key, Supplier<Mono<V>> call) {
+        return Mono.defer(() -> {
+            CompletableFuture<V> created = new CompletableFuture<>();
+            CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+            if (existing != null) {
+                logger.debug("Joining in-flight request for " + key);
+                // copy() so one caller cancelling does not cancel the shared call
+                return Mono.fromFuture(existing.copy());
+            }
+            try {
+                call.get().toFuture().whenComplete((value, error) -> complete(key, created, value, error));
+            } catch (RuntimeException e) {
+                complete(key, created, null, e);
+            }
+            return Mono.fromFuture(created.copy());
+        });
+    }
+
+    private void complete(K key, CompletableFuture<V> future, V value, Throwable error) {
+        // Release the key first so callers arriving after completion start a fresh request
+        inFlight.remove(key, future);
+        if (error != null) {
+            future.completeExceptionally(error);
+        } else {
+            future.complete(value);
+        }
+    }
+}
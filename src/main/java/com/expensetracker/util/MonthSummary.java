@@ -0,0 +1,146 @@
+package com.expensetracker.util;
+
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.dto.Money;
+
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Running totals of one month, kept in cents in primitive arrays.
+ * Day totals are indexed by day of month and category totals by first appearance, so adding
+ * or removing an expense updates a few array slots without boxing or allocating.
+ * One instance is reused across months with {@link #reset(YearMonth)}.
+ */
+public class MonthSummary {
+    private static final int INITIAL_CATEGORIES = 8;
+
+    private YearMonth month;
+    private final long[] dayCents = new long[32];
+    private String[] categories = new String[INITIAL_CATEGORIES];
+    private long[] categoryCents = new long[INITIAL_CATEGORIES];
+    private int categoryCount;
+    private long totalCents;
+    private int count;
+
+    public MonthSummary(YearMonth month) {
+        this.month = month;
+    }
+
+    /**
+     * Clear all totals and start summarizing another month.
+     */
+    public void reset(YearMonth month) {
+        this.month = month;
+        Arrays.fill(dayCents, 0);
+        Arrays.fill(categories, 0, categoryCount, null);
+        Arrays.fill(categoryCents, 0, categoryCount, 0);
+        categoryCount = 0;
+        totalCents = 0;
+        count = 0;
+    }
+
+    /**
+     * Add expenses to the totals. Expenses outside the month are ignored.
+     */
+    public void addAll(Collection<ExpenseResponse> expenses) {
+        for (ExpenseResponse expense : expenses) {
+            apply(expense, 1);
+        }
+    }
+
+    /**
+     * Add an expense to the totals. Expenses outside the month are ignored.
+     */
+    public void add(ExpenseResponse expense) {
+        apply(expense, 1);
+    }
+
+    /**
+     * Add one amount to a day and category of the month, for callers that hold expenses as columns.
+     */
+    public void add(int day, String category, long cents) {
+        apply(day, category, cents, 1);
+    }
+
+    /**
+     * Take an expense out of the totals. Expenses outside the month are ignored.
+     */
+    public void remove(ExpenseResponse expense) {
+        apply(expense, -1);
+    }
+
+    public YearMonth getMonth() {
+        return month;
+    }
+
+    public Money getTotal() {
+        return Money.ofCents(totalCents);
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Get the total of a day of the month in cents.
+     */
+    public long getDayCents(int day) {
+        return day >= 1 && day <= 31 ? dayCents[day] : 0;
+    }
+
+    /**
+     * Get the number of categories seen this month, including ones whose total went back to zero.
+     */
+    public int getCategoryCount() {
+        return categoryCount;
+    }
+
+    public String getCategory(int index) {
+        return categories[index];
+    }
+
+    public long getCategoryCents(int index) {
+        return categoryCents[index];
+    }
+
+    private void apply(ExpenseResponse expense, int sign) {
+        if (expense.getDate() == null || expense.getAmount() == null
+                || expense.getDate().getYear() != month.getYear()
+                || expense.getDate().getMonthValue() != month.getMonthValue()) {
+            return;
+        }
+        apply(expense.getDate().getDayOfMonth(), expense.getCategory(), expense.getAmount().getCents(), sign);
+    }
+
+    private void apply(int day, String category, long cents, int sign) {
+        dayCents[day] += sign * cents;
+        categoryCents[categoryIndex(category)] += sign * cents;
+        totalCents += sign * cents;
+        count += sign;
+    }
+
+    /**
+     * Find the slot of a category, adding it if unseen. Months only have a handful of
+     * categories, so a linear scan is cheaper than hashing.
+     */
+    private int categoryIndex(String category) {
+        String name = category != null ? category : "Other";
+        for (int i = 0; i < categoryCount; i++) {
+            if (categories[i].equals(name)) {
+                return i;
+            }
+        }
+        if (categoryCount == categories.length) {
+            categories = Arrays.copyOf(categories, categoryCount * 2);
+            categoryCents = Arrays.copyOf(categoryCents, categoryCount * 2);
+        }
+        categories[categoryCount] = name;
+        return categoryCount++;
+    }
+}
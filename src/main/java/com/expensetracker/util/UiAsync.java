@@ -0,0 +1,53 @@
+package com.expensetracker.util;
+
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.UIDetachedException;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Consumer;
+
+/**
+ * Utility for applying the results of non-blocking backend calls to a Vaadin UI.
+ * Callbacks run inside {@link UI#access}, so no servlet thread waits on backend I/O
+ * and the changes are pushed to the browser once the call completes.
+ */
+public final class UiAsync {
+    private static final Logger logger = new Logger(UiAsync.class);
+
+    private UiAsync() {
+    }
+
+    /**
+     * Subscribe to a Mono and hand its value or error to the given UI.
+     * An empty Mono completes without invoking either callback.
+     */
+    public static <T> Disposable subscribe(UI ui, Mono<T> mono, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        return mono.subscribe(
+                result -> access(ui, () -> onSuccess.accept(result)),
+                error -> access(ui, () -> onError.accept(error)));
+    }
+
+    /**
+     * Subscribe to a Flux and hand each element, the error or the completion to the given UI.
+     */
+    public static <T> Disposable subscribe(UI ui, Flux<T> flux, Consumer<T> onNext,
+                                           Consumer<Throwable> onError, Runnable onComplete) {
+        return flux.subscribe(
+                element -> access(ui, () -> onNext.accept(element)),
+                error -> access(ui, () -> onError.accept(error)),
+                () -> access(ui, onComplete));
+    }
+
+    /**
+     * Run a command in the UI's session lock, ignoring UIs that have been closed meanwhile.
+     */
+    public static void access(UI ui, Runnable command) {
+        try {
+            ui.access(command::run);
+        } catch (UIDetachedException e) {
+            logger.debug("UI detached before result could be applied");
+        }
+    }
+}
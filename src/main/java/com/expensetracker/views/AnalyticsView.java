@@ -0,0 +1,178 @@
+package com.expensetracker.views;
+
+import com.expensetracker.dto.CategoryReport;
+import com.expensetracker.dto.Money;
+import com.expensetracker.service.ExpenseAnalyticsService;
+import com.expensetracker.util.Logger;
+import com.expensetracker.util.UiAsync;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.button.Button;
+import com.vaadin.flow.component.button.ButtonVariant;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.H3;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
+import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import reactor.core.Disposable;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Category, month and week totals over a chosen range of months.
+ */
+@Route(value = "analytics", layout = MainView.class)
+@PageTitle("Analytics")
+public class AnalyticsView extends VerticalLayout {
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+
+    private final ExpenseAnalyticsService analyticsService;
+    private final Logger logger = new Logger(AnalyticsView.class);
+
+    private final ComboBox<YearMonth> fromCombo;
+    private final ComboBox<YearMonth> toCombo;
+    private final Button analyzeBtn;
+    private final ProgressBar progressBar;
+    private final Span totalSpan;
+    private final Grid<Map.Entry<String, Money>> categoryGrid;
+    private final Grid<Map.Entry<YearMonth, Money>> monthGrid;
+    private final Grid<Map.Entry<LocalDate, Money>> weekGrid;
+    private Disposable activeReport;
+    private long totalCents;
+
+    public AnalyticsView(ExpenseAnalyticsService analyticsService) {
+        this.analyticsService = analyticsService;
+
+        setSpacing(true);
+        setPadding(true);
+
+        H2 title = new H2("Category Analytics");
+        title.addClassNames(LumoUtility.Margin.MEDIUM);
+        add(title);
+
+        // Range picker, defaulting to the last twelve months
+        YearMonth now = YearMonth.now();
+        fromCombo = createMonthCombo("From", now.minusMonths(11));
+        toCombo = createMonthCombo("To", now);
+        analyzeBtn = new Button("Analyze", VaadinIcon.CHART.create());
+        analyzeBtn.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
+        analyzeBtn.addClickListener(e -> runReport());
+        HorizontalLayout picker = new HorizontalLayout(fromCombo, toCombo, analyzeBtn);
+        picker.setAlignItems(FlexComponent.Alignment.BASELINE);
+        add(picker);
+
+        progressBar = new ProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setWidth("200px");
+        progressBar.setVisible(false);
+        add(progressBar);
+
+        totalSpan = new Span();
+        totalSpan.addClassNames(LumoUtility.FontSize.LARGE, LumoUtility.FontWeight.BOLD);
+        add(totalSpan);
+
+        categoryGrid = new Grid<>();
+        categoryGrid.addColumn(Map.Entry::getKey).setHeader("Category").setFlexGrow(2);
+        categoryGrid.addColumn(entry -> "$" + entry.getValue()).setHeader("Total").setFlexGrow(1);
+        categoryGrid.addColumn(entry -> share(entry.getValue())).setHeader("Share").setFlexGrow(1);
+        categoryGrid.setAllRowsVisible(true);
+
+        monthGrid = new Grid<>();
+        monthGrid.addColumn(entry -> entry.getKey().format(MONTH_FORMAT)).setHeader("Month").setFlexGrow(2);
+        monthGrid.addColumn(entry -> "$" + entry.getValue()).setHeader("Total").setFlexGrow(1);
+        monthGrid.setAllRowsVisible(true);
+
+        weekGrid = new Grid<>();
+        weekGrid.addColumn(entry -> entry.getKey().toString()).setHeader("Week of").setFlexGrow(2);
+        weekGrid.addColumn(entry -> "$" + entry.getValue()).setHeader("Total").setFlexGrow(1);
+        weekGrid.setHeight("400px");
+
+        add(new H3("By Category"), categoryGrid, new H3("By Month"), monthGrid, new H3("By Week"), weekGrid);
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        if (activeReport != null) {
+            activeReport.dispose();
+            activeReport = null;
+        }
+        super.onDetach(detachEvent);
+    }
+
+    private ComboBox<YearMonth> createMonthCombo(String label, YearMonth value) {
+        List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = YearMonth.of(2020, 1); !month.isAfter(YearMonth.of(2030, 12)); month = month.plusMonths(1)) {
+            months.add(month);
+        }
+        ComboBox<YearMonth> combo = new ComboBox<>(label);
+        combo.setItems(months);
+        combo.setItemLabelGenerator(month -> month.format(MONTH_FORMAT));
+        combo.setValue(value);
+        return combo;
+    }
+
+    private void runReport() {
+        YearMonth from = fromCombo.getValue();
+        YearMonth to = toCombo.getValue();
+        if (from == null || to == null || to.isBefore(from)) {
+            showNotification("Please choose a start month before the end month");
+            return;
+        }
+        if (activeReport != null) {
+            activeReport.dispose();
+        }
+        logger.info("Analyzing expenses from " + from + " to " + to);
+        setLoading(true);
+        activeReport = UiAsync.subscribe(UI.getCurrent(), analyticsService.analyzeAsync(from, to),
+                report -> {
+                    setLoading(false);
+                    showReport(report);
+                },
+                e -> {
+                    setLoading(false);
+                    logger.error("Error analyzing expenses: " + e.getMessage());
+                    showNotification("Error analyzing expenses: " + e.getMessage());
+                });
+    }
+
+    private void showReport(CategoryReport report) {
+        totalCents = report.getTotal().getCents();
+        totalSpan.setText("Total: " + report.getTotal() + " (" + report.getCount() + " expenses)");
+        categoryGrid.setItems(new ArrayList<>(report.getCategoryTotals().entrySet()));
+        monthGrid.setItems(new ArrayList<>(report.getMonthTotals().entrySet()));
+        weekGrid.setItems(new ArrayList<>(report.getWeekTotals().entrySet()));
+    }
+
+    private String share(Money amount) {
+        if (totalCents == 0) {
+            return "-";
+        }
+        return String.format("%.1f%%", amount.getCents() * 100.0 / totalCents);
+    }
+
+    private void setLoading(boolean loading) {
+        progressBar.setVisible(loading);
+        analyzeBtn.setEnabled(!loading);
+        if (loading) {
+            totalSpan.setText("Total: ...");
+        }
+    }
+
+    private void showNotification(String message) {
+        com.vaadin.flow.component.notification.Notification.show(message);
+    }
+}
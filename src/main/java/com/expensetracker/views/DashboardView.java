@@ -0,0 +1,199 @@
+package com.expensetracker.views;
+
+import com.expensetracker.dto.MonthOverview;
+import com.expensetracker.dto.MonthlyBalanceResponse;
+import com.expensetracker.dto.Money;
+import com.expensetracker.service.DashboardService;
+import com.expensetracker.util.Logger;
+import com.expensetracker.util.UiAsync;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
+import com.vaadin.flow.component.combobox.ComboBox;
+import com.vaadin.flow.component.html.Div;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.orderedlayout.FlexLayout;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+import reactor.core.Disposable;
+
+import java.math.BigDecimal;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Yearly dashboard with one card per month.
+ * All twelve months are requested at once and each card is filled as its month arrives.
+ */
+@Route(value = "dashboard", layout = MainView.class)
+@PageTitle("Dashboard")
+public class DashboardView extends VerticalLayout {
+    private final DashboardService dashboardService;
+    private final Logger logger = new Logger(DashboardView.class);
+
+    private final Div[] monthCards = new Div[12];
+    private final Span yearTotalSpan;
+    private int currentYear;
+    private long yearTotalCents;
+    private int monthsLoaded;
+    private Disposable activeLoad;
+
+    public DashboardView(DashboardService dashboardService) {
+        this.dashboardService = dashboardService;
+        this.currentYear = Year.now().getValue();
+
+        setSpacing(true);
+        setPadding(true);
+
+        H2 title = new H2("Yearly Dashboard");
+        title.addClassNames(LumoUtility.Margin.MEDIUM);
+        add(title);
+
+        ComboBox<Integer> yearCombo = new ComboBox<>();
+        yearCombo.setLabel("Year");
+        List<Integer> years = new ArrayList<>();
+        for (int i = 2020; i <= 2030; i++) {
+            years.add(i);
+        }
+        yearCombo.setItems(years);
+        yearCombo.setValue(currentYear);
+        yearCombo.addValueChangeListener(e -> {
+            if (e.getValue() != null) {
+                currentYear = e.getValue();
+                loadYear();
+            }
+        });
+        add(yearCombo);
+
+        yearTotalSpan = new Span();
+        yearTotalSpan.addClassNames(LumoUtility.FontSize.LARGE, LumoUtility.FontWeight.BOLD);
+        add(yearTotalSpan);
+
+        FlexLayout cards = new FlexLayout();
+        cards.setFlexWrap(FlexLayout.FlexWrap.WRAP);
+        cards.addClassNames(LumoUtility.Gap.MEDIUM);
+        cards.setWidthFull();
+        for (int i = 0; i < monthCards.length; i++) {
+            monthCards[i] = createCard();
+            cards.add(monthCards[i]);
+        }
+        add(cards);
+    }
+
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
+        loadYear();
+    }
+
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        if (activeLoad != null) {
+            activeLoad.dispose();
+            activeLoad = null;
+        }
+        super.onDetach(detachEvent);
+    }
+
+    /**
+     * Request all months of the current year and fill each card as its month arrives.
+     */
+    private void loadYear() {
+        if (activeLoad != null) {
+            activeLoad.dispose();
+        }
+        int requestedYear = currentYear;
+        yearTotalCents = 0;
+        monthsLoaded = 0;
+        yearTotalSpan.setText("Total: ...");
+        for (int i = 0; i < monthCards.length; i++) {
+            showLoading(monthCards[i], Month.of(i + 1));
+        }
+
+        activeLoad = UiAsync.subscribe(UI.getCurrent(), dashboardService.loadYear(requestedYear),
+                overview -> {
+                    if (requestedYear != currentYear) {
+                        return;
+                    }
+                    showMonth(monthCards[overview.getMonth().getMonthValue() - 1], overview);
+                    if (overview.getTotal() != null) {
+                        yearTotalCents += overview.getTotal().getCents();
+                    }
+                    monthsLoaded++;
+                    yearTotalSpan.setText("Total: " + Money.ofCents(yearTotalCents)
+                            + (monthsLoaded < monthCards.length ? " (" + monthsLoaded + " of 12 months)" : ""));
+                },
+                e -> {
+                    logger.error("Error loading dashboard: " + e.getMessage());
+                    showNotification("Error loading dashboard: " + e.getMessage());
+                },
+                () -> logger.info("Dashboard for " + requestedYear + " loaded"));
+    }
+
+    private Div createCard() {
+        Div card = new Div();
+        card.addClassNames(
+                LumoUtility.Padding.MEDIUM,
+                LumoUtility.Background.CONTRAST_5,
+                LumoUtility.BorderRadius.MEDIUM
+        );
+        card.getStyle().set("border", "1px solid var(--lumo-contrast-20pct)");
+        card.setWidth("220px");
+        return card;
+    }
+
+    private void showLoading(Div card, Month month) {
+        card.removeAll();
+        Span loading = new Span("Loading...");
+        loading.addClassNames(LumoUtility.TextColor.SECONDARY);
+        card.add(cardTitle(month), new Div(loading));
+    }
+
+    private void showMonth(Div card, MonthOverview overview) {
+        card.removeAll();
+        card.add(cardTitle(overview.getMonth().getMonth()));
+        if (overview.getError() != null) {
+            Span error = new Span("Could not load: " + overview.getError());
+            error.addClassNames(LumoUtility.TextColor.ERROR);
+            card.add(new Div(error));
+            return;
+        }
+        card.add(new Div(new Span("Spent: $" + overview.getTotal() + " (" + overview.getCount() + ")")));
+
+        MonthlyBalanceResponse balance = overview.getBalance();
+        if (balance == null) {
+            Span none = new Span("No balance");
+            none.addClassNames(LumoUtility.TextColor.SECONDARY);
+            card.add(new Div(none));
+            return;
+        }
+        card.add(new Div(new Span("Budget: " + formatCurrency(balance.getExpenseBudget()))));
+        Span current = new Span("Balance: " + formatCurrency(balance.getCurrentBalance()));
+        if (balance.getCurrentBalance() != null) {
+            current.addClassNames(balance.getCurrentBalance().signum() < 0
+                    ? LumoUtility.TextColor.ERROR : LumoUtility.TextColor.SUCCESS);
+        }
+        card.add(new Div(current));
+    }
+
+    private Span cardTitle(Month month) {
+        Span title = new Span(month.getDisplayName(TextStyle.FULL, Locale.ENGLISH));
+        title.addClassNames(LumoUtility.FontWeight.BOLD);
+        return title;
+    }
+
+    private String formatCurrency(BigDecimal amount) {
+        return amount != null ? "$" + Money.of(amount) : "-";
+    }
+
+    private void showNotification(String message) {
+        com.vaadin.flow.component.notification.Notification.show(message);
+    }
+}
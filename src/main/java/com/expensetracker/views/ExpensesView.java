@@ -7,7 +7,15 @@ import com.expensetracker.dto.ExpenseResponse;
 import com.expensetracker.dto.ListExpensesResponse;
 import com.expensetracker.dto.UpdateExpenseRequest;
 import com.expensetracker.service.ApiClient;
+import com.expensetracker.service.ExpensePrefetcher;
+import com.expensetracker.service.MonthColumns;
+import com.expensetracker.service.ExpenseWriteQueue;
 import com.expensetracker.util.Logger;
+import com.expensetracker.util.MonthSummary;
+import com.expensetracker.util.UiAsync;
+import com.vaadin.flow.component.AttachEvent;
+import com.vaadin.flow.component.DetachEvent;
+import com.vaadin.flow.component.UI;
 import com.vaadin.flow.component.button.Button;
 import com.vaadin.flow.component.button.ButtonVariant;
 import com.vaadin.flow.component.combobox.ComboBox;
@@ -17,20 +25,32 @@ import com.vaadin.flow.component.html.Div;
 import com.vaadin.flow.component.html.H2;
 import com.vaadin.flow.component.html.Span;
 import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.FlexComponent;
 import com.vaadin.flow.component.orderedlayout.HorizontalLayout;
 import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.progressbar.ProgressBar;
 import com.vaadin.flow.component.tabs.Tab;
 import com.vaadin.flow.component.tabs.Tabs;
+import com.vaadin.flow.data.renderer.LitRenderer;
+import com.vaadin.flow.data.provider.Query;
+import com.vaadin.flow.data.provider.QuerySortOrder;
+import com.vaadin.flow.data.provider.SortDirection;
 import com.vaadin.flow.router.PageTitle;
 import com.vaadin.flow.router.Route;
 import com.vaadin.flow.theme.lumo.LumoUtility;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
-import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Main expenses view with calendar and list tabs.
@@ -38,19 +58,33 @@ import java.util.stream.Collectors;
 @Route(value = "expense", layout = MainView.class)
 @PageTitle("Expenses")
 public class ExpensesView extends VerticalLayout {
+    private static final int STREAM_BATCH_SIZE = 100;
+    private static final Duration STREAM_BATCH_INTERVAL = Duration.ofMillis(200);
+
     private final ApiClient apiClient;
+    private final ExpensePrefetcher prefetcher;
+    private final ExpenseWriteQueue writeQueue;
     private final Logger logger = new Logger(ExpensesView.class);
 
     private YearMonth currentMonth;
-    private ListExpensesResponse currentData;
+    private List<ExpenseResponse> currentRows = new ArrayList<>();
 
     private final Grid<ExpenseResponse> expenseGrid;
+    private final ComboBox<String> categoryFilter;
+    private String selectedCategory;
     private final Span totalSpan;
+    private final HorizontalLayout loadingIndicator;
     private VerticalLayout calendarContainer;
     private CalendarComponent calendarComponent;
+    private Disposable activeLoad;
+    private boolean monthLoaded;
+    private MonthColumns currentColumns;
+    private MonthSummary summary = new MonthSummary(YearMonth.now());
 
-    public ExpensesView(ApiClient apiClient) {
+    public ExpensesView(ApiClient apiClient, ExpensePrefetcher prefetcher, ExpenseWriteQueue writeQueue) {
         this.apiClient = apiClient;
+        this.prefetcher = prefetcher;
+        this.writeQueue = writeQueue;
         this.currentMonth = YearMonth.now();
 
         setSpacing(true);
@@ -66,6 +100,10 @@ public class ExpensesView extends VerticalLayout {
         Tabs tabs = createTabs();
         add(tabs);
 
+        // Loading placeholder (shown until the first expenses of a month arrive)
+        loadingIndicator = createLoadingIndicator();
+        add(loadingIndicator);
+
         // Calendar Container (will hold the calendar component)
         calendarContainer = new VerticalLayout();
         calendarContainer.setSpacing(true);
@@ -73,7 +111,10 @@ public class ExpensesView extends VerticalLayout {
         calendarContainer.setWidth("100%");
         add(calendarContainer);
 
-        // Grid for list view
+        // Category filter and grid for list view
+        categoryFilter = createCategoryFilter();
+        categoryFilter.setVisible(false);
+        add(categoryFilter);
         expenseGrid = createExpenseGrid();
         expenseGrid.setVisible(false);
         add(expenseGrid);
@@ -88,11 +129,48 @@ public class ExpensesView extends VerticalLayout {
         addExpenseBtn.addThemeVariants(ButtonVariant.LUMO_PRIMARY);
         addExpenseBtn.addClickListener(e -> openExpenseForm(null));
         add(addExpenseBtn);
+    }
 
-        // Load initial data
+    /**
+     * Start loading once the view is attached, so navigation renders the page
+     * immediately and the data is pushed in when it arrives.
+     */
+    @Override
+    protected void onAttach(AttachEvent attachEvent) {
+        super.onAttach(attachEvent);
         loadExpenses();
     }
 
+    @Override
+    protected void onDetach(DetachEvent detachEvent) {
+        if (activeLoad != null) {
+            activeLoad.dispose();
+            activeLoad = null;
+        }
+        super.onDetach(detachEvent);
+    }
+
+    private HorizontalLayout createLoadingIndicator() {
+        ProgressBar progressBar = new ProgressBar();
+        progressBar.setIndeterminate(true);
+        progressBar.setWidth("200px");
+
+        Span label = new Span("Loading expenses...");
+        label.addClassNames(LumoUtility.TextColor.SECONDARY);
+
+        HorizontalLayout layout = new HorizontalLayout(progressBar, label);
+        layout.setAlignItems(FlexComponent.Alignment.CENTER);
+        layout.setVisible(false);
+        return layout;
+    }
+
+    private void setLoading(boolean loading) {
+        loadingIndicator.setVisible(loading);
+        if (loading) {
+            totalSpan.setText("Total: ...");
+        }
+    }
+
     private H2 createHeader() {
         H2 title = new H2("Daily Expenses");
         title.addClassNames(LumoUtility.Margin.MEDIUM);
@@ -137,9 +215,11 @@ public class ExpensesView extends VerticalLayout {
         tabs.addSelectedChangeListener(e -> {
             if (e.getSelectedTab() == calendarTab) {
                 calendarContainer.setVisible(true);
+                categoryFilter.setVisible(false);
                 expenseGrid.setVisible(false);
             } else {
                 calendarContainer.setVisible(false);
+                categoryFilter.setVisible(true);
                 expenseGrid.setVisible(true);
             }
         });
@@ -147,85 +227,266 @@ public class ExpensesView extends VerticalLayout {
         return tabs;
     }
 
+    private ComboBox<String> createCategoryFilter() {
+        ComboBox<String> combo = new ComboBox<>();
+        combo.setLabel("Category");
+        combo.setPlaceholder("All categories");
+        combo.setClearButtonVisible(true);
+        combo.addValueChangeListener(e -> {
+            selectedCategory = e.getValue();
+            applyCategoryFilter();
+        });
+        return combo;
+    }
+
+    /**
+     * Offer the categories of the loaded month, keeping the selection while it still occurs.
+     */
+    private void updateCategoryFilter() {
+        List<String> categories;
+        if (currentColumns != null) {
+            categories = currentColumns.getCategories();
+        } else {
+            categories = currentRows.stream()
+                    .map(ExpenseResponse::getCategory)
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .sorted()
+                    .collect(Collectors.toList());
+        }
+        String selected = selectedCategory;
+        categoryFilter.setItems(categories);
+        categoryFilter.setValue(selected != null && categories.contains(selected) ? selected : null);
+    }
+
+    /**
+     * Filter the list view by the selected category. Lazy grids filter the month's columns by
+     * category code when paging, in-memory grids filter their list.
+     */
+    private void applyCategoryFilter() {
+        if (apiClient.isPagingEnabled()) {
+            expenseGrid.getDataProvider().refreshAll();
+        } else if (selectedCategory == null) {
+            expenseGrid.getListDataView().removeFilters();
+        } else {
+            String category = selectedCategory;
+            expenseGrid.getListDataView().setFilter(expense -> category.equals(expense.getCategory()));
+        }
+    }
+
     private Grid<ExpenseResponse> createExpenseGrid() {
         Grid<ExpenseResponse> grid = new Grid<>(ExpenseResponse.class, false);
         grid.setWidth("100%");
 
-        grid.addColumn(expense -> expense.getDate().toString()).setHeader("Date").setFlexGrow(1);
-        grid.addColumn(expense -> "$" + String.format("%.2f", expense.getAmount())).setHeader("Amount").setFlexGrow(1);
-        grid.addColumn(ExpenseResponse::getCategory).setHeader("Category").setFlexGrow(1);
-        grid.addColumn(ExpenseResponse::getDescription).setHeader("Description").setFlexGrow(1);
+        // Sort properties sort the month's columns in paged mode, comparators sort in-memory lists
+        grid.addColumn(expense -> expense.getDate().toString()).setHeader("Date").setFlexGrow(1)
+                .setSortProperty("date").setComparator(ExpenseResponse::getDate);
+        grid.addColumn(expense -> "$" + expense.getAmount()).setHeader("Amount").setFlexGrow(1)
+                .setSortProperty("amount").setComparator(ExpenseResponse::getAmount);
+        grid.addColumn(ExpenseResponse::getCategory).setHeader("Category").setFlexGrow(1)
+                .setSortProperty("category");
+        grid.addColumn(ExpenseResponse::getDescription).setHeader("Description").setFlexGrow(1)
+                .setSortProperty("description");
+
+        // Rendered client-side: no per-row server components, clicks resolve the row by its key
+        grid.addColumn(LitRenderer.<ExpenseResponse>of(
+                        "<vaadin-horizontal-layout theme=\"spacing\">"
+                                + "<vaadin-button theme=\"small tertiary\" @click=\"${edit}\">"
+                                + "<vaadin-icon icon=\"vaadin:edit\" slot=\"prefix\"></vaadin-icon>Edit</vaadin-button>"
+                                + "<vaadin-button theme=\"small error\" @click=\"${delete}\">"
+                                + "<vaadin-icon icon=\"vaadin:trash\" slot=\"prefix\"></vaadin-icon>Delete</vaadin-button>"
+                                + "</vaadin-horizontal-layout>")
+                .withFunction("edit", this::editExpense)
+                .withFunction("delete", this::deleteExpense))
+                .setHeader("Actions").setWidth("150px");
+
+        return grid;
+    }
 
-        grid.addComponentColumn(expense -> {
-            Button editBtn = new Button("Edit", VaadinIcon.EDIT.create());
-            editBtn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_TERTIARY);
-            editBtn.addClickListener(e -> editExpense(expense));
+    /**
+     * Load the current month as a stream. The grid, calendar and total are filled
+     * batch by batch as expenses arrive instead of after the whole month is decoded.
+     * With lazy paging enabled the month is loaded as columns instead: the grid creates rows only
+     * for the page being viewed, and the calendar and total are summed from the columns.
+     */
+    private void loadExpenses() {
+        logger.info("Loading expenses for " + currentMonth);
+        YearMonth requestedMonth = currentMonth;
+        if (activeLoad != null) {
+            activeLoad.dispose();
+        }
 
-            Button deleteBtn = new Button("Delete", VaadinIcon.TRASH.create());
-            deleteBtn.addThemeVariants(ButtonVariant.LUMO_SMALL, ButtonVariant.LUMO_ERROR);
-            deleteBtn.addClickListener(e -> deleteExpense(expense));
+        List<ExpenseResponse> received = new ArrayList<>();
+        currentRows = received;
+        currentColumns = null;
+        summary.reset(requestedMonth);
+        monthLoaded = false;
+        setLoading(true);
+
+        if (apiClient.isPagingEnabled()) {
+            expenseGrid.setItems(query -> fetchPage(query));
+            activeLoad = UiAsync.subscribe(UI.getCurrent(),
+                    apiClient.listColumnsAsync(requestedMonth.getYear(), requestedMonth.getMonthValue()),
+                    columns -> {
+                        if (!requestedMonth.equals(currentMonth)) {
+                            return;
+                        }
+                        currentColumns = columns;
+                        summary = columns.summarize();
+                        expenseGrid.getDataProvider().refreshAll();
+                        onMonthLoaded(requestedMonth);
+                    },
+                    this::onLoadError);
+            return;
+        }
 
-            HorizontalLayout actions = new HorizontalLayout(editBtn, deleteBtn);
-            actions.setSpacing(true);
-            return actions;
-        }).setHeader("Actions").setWidth("150px");
+        expenseGrid.setItems(received);
+        applyCategoryFilter();
+        activeLoad = UiAsync.subscribe(UI.getCurrent(),
+                apiClient.streamExpensesAsync(requestedMonth.getYear(), requestedMonth.getMonthValue())
+                        .bufferTimeout(STREAM_BATCH_SIZE, STREAM_BATCH_INTERVAL),
+                batch -> {
+                    // Ignore batches for a month the user has already navigated away from
+                    if (!requestedMonth.equals(currentMonth)) {
+                        return;
+                    }
+                    setLoading(false);
+                    summary.addAll(batch);
+                    received.addAll(batch);
+                    expenseGrid.getDataProvider().refreshAll();
+                    updateTotal();
+                    renderCalendar();
+                },
+                this::onLoadError,
+                () -> {
+                    if (requestedMonth.equals(currentMonth)) {
+                        onMonthLoaded(requestedMonth);
+                    }
+                });
+    }
 
-        return grid;
+    private void onMonthLoaded(YearMonth month) {
+        setLoading(false);
+        monthLoaded = true;
+        updateCategoryFilter();
+        updateTotal();
+        renderCalendar();
+        // Warm the cache for the months the user is most likely to open next
+        prefetcher.prefetchAround(month);
     }
 
-    private void loadExpenses() {
-        try {
-            logger.info("Loading expenses for " + currentMonth);
-            currentData = apiClient.listExpenses(currentMonth.getYear(), currentMonth.getMonthValue());
+    private void onLoadError(Throwable e) {
+        setLoading(false);
+        logger.error("Error loading expenses: " + e.getMessage());
+        showNotification("Error loading expenses: " + e.getMessage());
+    }
 
-            if (currentData != null) {
-                expenseGrid.setItems(currentData.getExpenses());
-                updateTotal();
-                renderCalendar();
+    /**
+     * Page the lazy grid from the current month's columns, which stay empty until the month is loaded.
+     * Pages are filtered by the selected category and sorted in memory, so the request thread never
+     * waits for the backend.
+     */
+    private Stream<ExpenseResponse> fetchPage(Query<ExpenseResponse, Void> query) {
+        MonthColumns columns = currentColumns;
+        if (columns == null) {
+            return Stream.empty();
+        }
+        String sortProperty = "date";
+        boolean ascending = true;
+        if (!query.getSortOrders().isEmpty()) {
+            QuerySortOrder sortOrder = query.getSortOrders().get(0);
+            sortProperty = sortOrder.getSorted();
+            ascending = sortOrder.getDirection() == SortDirection.ASCENDING;
+        }
+        ListExpensesResponse page = columns.page(selectedCategory, sortProperty, ascending,
+                query.getOffset(), query.getLimit());
+        return page.getExpenses().stream();
+    }
+
+    /**
+     * Take the month's columns from the cache again after a write patched them, and repaint the lazy grid.
+     */
+    private void refreshColumns() {
+        YearMonth month = currentMonth;
+        UiAsync.subscribe(UI.getCurrent(), apiClient.listColumnsAsync(month.getYear(), month.getMonthValue()),
+                columns -> {
+                    if (month.equals(currentMonth)) {
+                        currentColumns = columns;
+                        updateCategoryFilter();
+                        expenseGrid.getDataProvider().refreshAll();
+                    }
+                },
+                e -> logger.error("Error refreshing expenses: " + e.getMessage()));
+    }
+
+    /**
+     * Subscribe to a write and apply its result to this view through UI.access.
+     * A failed write leaves the month in an unknown state, so the view reconciles with a full reload.
+     */
+    private <T> void subscribeWrite(Mono<T> call, Consumer<T> onSuccess, String errorMessage) {
+        UiAsync.subscribe(UI.getCurrent(), call, onSuccess, e -> {
+            logger.error(errorMessage + ": " + e.getMessage());
+            showNotification(errorMessage + ": " + e.getMessage());
+            loadExpenses();
+        });
+    }
+
+    /**
+     * Apply a write to the grid, day totals and running total without refetching the month.
+     * {@code removed} is the previous state of an updated or deleted expense, {@code added} the
+     * expenses returned by create or update. Entries outside the shown month are ignored.
+     * While the month is still streaming in, a full reload is used instead so the write is not
+     * counted twice.
+     */
+    private void applyChange(ExpenseResponse removed, List<ExpenseResponse> added) {
+        if (!monthLoaded) {
+            loadExpenses();
+            return;
+        }
+        boolean lazy = apiClient.isPagingEnabled();
+        List<ExpenseResponse> rows = currentRows;
+
+        if (removed != null && YearMonth.from(removed.getDate()).equals(currentMonth)) {
+            summary.remove(removed);
+            if (!lazy) {
+                rows.removeIf(row -> row.getId().equals(removed.getId()));
             }
-        } catch (Exception e) {
-            logger.error("Error loading expenses: " + e.getMessage());
-            showNotification("Error loading expenses: " + e.getMessage());
         }
+        List<ExpenseResponse> inMonth = added.stream()
+                .filter(expense -> YearMonth.from(expense.getDate()).equals(currentMonth))
+                .collect(Collectors.toList());
+        summary.addAll(inMonth);
+        if (lazy) {
+            refreshColumns();
+        } else {
+            rows.addAll(inMonth);
+            updateCategoryFilter();
+            expenseGrid.getDataProvider().refreshAll();
+        }
+        updateTotal();
+        renderCalendar();
     }
 
     private void renderCalendar() {
-        // Remove old calendar component
-        calendarContainer.removeAll();
-
-        // Create new calendar component for the current month
-        calendarComponent = new CalendarComponent(currentMonth);
-        calendarComponent.setOnDaySelected(this::onDaySelected);
-
-        if (currentData != null && currentData.getExpenses() != null && !currentData.getExpenses().isEmpty()) {
-            // Calculate daily totals from expenses
-            java.util.Map<Integer, BigDecimal> dayTotals = new java.util.HashMap<>();
-            for (ExpenseResponse expense : currentData.getExpenses()) {
-                int day = expense.getDate().getDayOfMonth();
-                BigDecimal currentTotal = dayTotals.getOrDefault(day, BigDecimal.ZERO);
-                BigDecimal newTotal = currentTotal.add(expense.getAmount());
-                dayTotals.put(day, newTotal);
-                logger.info("Day " + day + ": " + expense.getAmount() + " -> Total: " + newTotal);
-            }
+        // Create the calendar once and switch months in place, so only changed day totals are updated
+        if (calendarComponent == null) {
+            calendarComponent = new CalendarComponent(currentMonth);
+            calendarComponent.setOnDaySelected(this::onDaySelected);
+            calendarContainer.add(calendarComponent);
+        } else {
+            calendarComponent.setYearMonth(currentMonth);
+        }
 
-            // Mark days with expenses and their totals
-            logger.info("Marking " + dayTotals.size() + " days with expenses");
-            for (java.util.Map.Entry<Integer, BigDecimal> entry : dayTotals.entrySet()) {
-                logger.info("  Day " + entry.getKey() + ": $" + entry.getValue());
-            }
-            calendarComponent.markDaysWithExpenses(dayTotals);
+        if (summary.getCount() > 0) {
+            calendarComponent.markDaysWithExpenses(summary);
         } else {
             logger.info("No expenses found for " + currentMonth);
+            calendarComponent.clearExpenseMarkers();
         }
-
-        // Add the calendar to the container
-        calendarContainer.add(calendarComponent);
     }
 
     private void updateTotal() {
-        if (currentData != null && currentData.getTotal() != null) {
-            totalSpan.setText("Total: " + currentData.getTotal());
-        }
+        totalSpan.setText("Total: " + summary.getTotal());
     }
 
     private void openExpenseForm(LocalDate date) {
@@ -244,24 +505,49 @@ public class ExpensesView extends VerticalLayout {
     }
 
     private void saveExpenses(List<CreateExpenseRequest> expenses) {
-        try {
-            logger.info("Saving " + expenses.size() + " expenses");
-            if (expenses.size() == 1) {
-                apiClient.createExpense(
-                        expenses.get(0).getDate(),
-                        expenses.get(0).getAmount(),
-                        expenses.get(0).getCategory(),
-                        expenses.get(0).getDescription()
-                );
+        logger.info("Saving " + expenses.size() + " expenses");
+        if (writeQueue.isEnabled()) {
+            queueExpenses(expenses);
+            return;
+        }
+        Mono<List<ExpenseResponse>> save;
+        if (expenses.size() == 1) {
+            save = apiClient.createExpenseAsync(
+                    expenses.get(0).getDate(),
+                    expenses.get(0).getAmount(),
+                    expenses.get(0).getCategory(),
+                    expenses.get(0).getDescription()
+            ).map(List::of);
+        } else {
+            save = apiClient.batchCreateExpensesAsync(expenses)
+                    .map(response -> response.getCreated() != null ? response.getCreated() : List.of());
+        }
+        subscribeWrite(save, created -> {
+            applyChange(null, created);
+            showNotification("Expense(s) saved successfully");
+        }, "Error saving expenses");
+    }
+
+    /**
+     * Save through the write-behind queue and report how many of the items were created.
+     */
+    private void queueExpenses(List<CreateExpenseRequest> expenses) {
+        Mono<List<ExpenseResponse>> results = Flux.fromIterable(expenses)
+                .flatMap(expense -> writeQueue.enqueue(expense)
+                        .onErrorResume(e -> {
+                            logger.error("Error saving expense: " + e.getMessage());
+                            return Mono.empty();
+                        }))
+                .collectList();
+        subscribeWrite(results, saved -> {
+            int savedCount = saved.size();
+            applyChange(null, saved);
+            if (savedCount == expenses.size()) {
+                showNotification("Expense(s) saved successfully");
             } else {
-                apiClient.batchCreateExpenses(expenses);
+                showNotification("Saved " + savedCount + " of " + expenses.size() + " expense(s)");
             }
-            loadExpenses();
-            showNotification("Expense(s) saved successfully");
-        } catch (Exception e) {
-            logger.error("Error saving expenses: " + e.getMessage());
-            showNotification("Error saving expenses: " + e.getMessage());
-        }
+        }, "Error saving expenses");
     }
 
     private void editExpense(ExpenseResponse expense) {
@@ -270,11 +556,11 @@ public class ExpensesView extends VerticalLayout {
             ExpenseFormDialog dialog = new ExpenseFormDialog(expense.getId());
             dialog.setExpenseData(
                     expense.getDate(),
-                    expense.getAmount(),
+                    expense.getAmount().toBigDecimal(),
                     expense.getCategory(),
                     expense.getDescription()
             );
-            dialog.setOnSave(this::saveExpenses);
+            dialog.setOnUpdate(request -> updateExpense(expense, request));
             dialog.open();
         } catch (Exception e) {
             logger.error("Error opening edit form: " + e.getMessage());
@@ -282,6 +568,15 @@ public class ExpensesView extends VerticalLayout {
         }
     }
 
+    private void updateExpense(ExpenseResponse original, UpdateExpenseRequest request) {
+        subscribeWrite(apiClient.updateExpenseAsync(original.getId(), request.getDate(), request.getAmount(),
+                        request.getCategory(), request.getDescription()),
+                updated -> {
+                    applyChange(original, List.of(updated));
+                    showNotification("Expense updated successfully");
+                }, "Error updating expense");
+    }
+
     private void deleteExpense(ExpenseResponse expense) {
         logger.info("Deleting expense ID: " + expense.getId());
         Dialog confirmDialog = new Dialog();
@@ -289,15 +584,11 @@ public class ExpensesView extends VerticalLayout {
         confirmDialog.add(new Span("Are you sure you want to delete this expense?"));
 
         Button deleteBtn = new Button("Delete", e -> {
-            try {
-                apiClient.deleteExpense(expense.getId());
-                loadExpenses();
+            subscribeWrite(apiClient.deleteExpenseAsync(expense.getId()).thenReturn(expense), deleted -> {
+                applyChange(deleted, List.of());
                 showNotification("Expense deleted successfully");
                 confirmDialog.close();
-            } catch (Exception ex) {
-                logger.error("Error deleting expense: " + ex.getMessage());
-                showNotification("Error deleting expense: " + ex.getMessage());
-            }
+            }, "Error deleting expense");
         });
         deleteBtn.addThemeVariants(ButtonVariant.LUMO_ERROR);
 
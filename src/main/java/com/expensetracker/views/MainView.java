@@ -34,6 +34,15 @@ public class MainView extends AppLayout {
         var expensesItem = new SideNavItem("Expenses", ExpensesView.class, VaadinIcon.WALLET.create());
         nav.addItem(expensesItem);
 
+        var dashboardItem = new SideNavItem("Dashboard", DashboardView.class, VaadinIcon.DASHBOARD.create());
+        nav.addItem(dashboardItem);
+
+        var analyticsItem = new SideNavItem("Analytics", AnalyticsView.class, VaadinIcon.CHART.create());
+        nav.addItem(analyticsItem);
+
+        var searchItem = new SideNavItem("Search", SearchView.class, VaadinIcon.SEARCH.create());
+        nav.addItem(searchItem);
+
         addToDrawer(nav);
     }
 }
@@ -0,0 +1,92 @@
+package com.expensetracker.views;
+
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.service.ExpenseSearchIndex;
+import com.expensetracker.util.Logger;
+import com.vaadin.flow.component.grid.Grid;
+import com.vaadin.flow.component.html.H2;
+import com.vaadin.flow.component.html.Span;
+import com.vaadin.flow.component.icon.VaadinIcon;
+import com.vaadin.flow.component.orderedlayout.VerticalLayout;
+import com.vaadin.flow.component.textfield.TextField;
+import com.vaadin.flow.data.value.ValueChangeMode;
+import com.vaadin.flow.router.PageTitle;
+import com.vaadin.flow.router.Route;
+import com.vaadin.flow.theme.lumo.LumoUtility;
+
+import java.util.List;
+
+/**
+ * Free-text search over the descriptions and categories of all loaded months.
+ * Queries run against the in-memory {@link ExpenseSearchIndex}, not the backend.
+ */
+@Route(value = "search", layout = MainView.class)
+@PageTitle("Search")
+public class SearchView extends VerticalLayout {
+    private static final int MAX_RESULTS = 200;
+
+    private final ExpenseSearchIndex searchIndex;
+    private final Logger logger = new Logger(SearchView.class);
+
+    private final Grid<ExpenseResponse> resultGrid;
+    private final Span statusSpan;
+
+    public SearchView(ExpenseSearchIndex searchIndex) {
+        this.searchIndex = searchIndex;
+
+        setSpacing(true);
+        setPadding(true);
+
+        H2 title = new H2("Search Expenses");
+        title.addClassNames(LumoUtility.Margin.MEDIUM);
+        add(title);
+
+        TextField searchField = new TextField();
+        searchField.setPlaceholder("Search descriptions and categories");
+        searchField.setPrefixComponent(VaadinIcon.SEARCH.create());
+        searchField.setClearButtonVisible(true);
+        searchField.setWidth("400px");
+        searchField.setValueChangeMode(ValueChangeMode.LAZY);
+        searchField.addValueChangeListener(e -> search(e.getValue()));
+        add(searchField);
+
+        statusSpan = new Span();
+        statusSpan.addClassNames(LumoUtility.TextColor.SECONDARY);
+        add(statusSpan);
+
+        resultGrid = new Grid<>(ExpenseResponse.class, false);
+        resultGrid.setWidth("100%");
+        resultGrid.addColumn(expense -> expense.getDate().toString()).setHeader("Date").setFlexGrow(1);
+        resultGrid.addColumn(expense -> "$" + expense.getAmount()).setHeader("Amount").setFlexGrow(1);
+        resultGrid.addColumn(ExpenseResponse::getCategory).setHeader("Category").setFlexGrow(1);
+        resultGrid.addColumn(ExpenseResponse::getDescription).setHeader("Description").setFlexGrow(2);
+        add(resultGrid);
+
+        showIndexStatus();
+    }
+
+    private void search(String query) {
+        if (query == null || query.isBlank()) {
+            resultGrid.setItems(List.of());
+            showIndexStatus();
+            return;
+        }
+        long started = System.nanoTime();
+        List<ExpenseResponse> results = searchIndex.search(query, MAX_RESULTS);
+        long micros = (System.nanoTime() - started) / 1000;
+        logger.debug("Search '" + query + "' found " + results.size() + " expenses in " + micros + " us");
+
+        resultGrid.setItems(results);
+        statusSpan.setText(results.size() + (results.size() == MAX_RESULTS ? "+" : "") + " result(s) in "
+                + searchIndex.indexedMonthCount() + " indexed month(s)");
+    }
+
+    private void showIndexStatus() {
+        if (!searchIndex.isEnabled()) {
+            statusSpan.setText("Search is disabled");
+            return;
+        }
+        statusSpan.setText(searchIndex.size() + " expenses indexed from " + searchIndex.indexedMonthCount()
+                + " month(s). Months are indexed as they are loaded.");
+    }
+}
@@ -0,0 +1,86 @@
+package com.expensetracker.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MoneyTest {
+
+    @Test
+    void parseKeepsWholeAndShortFractions() {
+        assertThat(Money.parse("12").getCents()).isEqualTo(1200);
+        assertThat(Money.parse("12.5").getCents()).isEqualTo(1250);
+        assertThat(Money.parse("12.05").getCents()).isEqualTo(1205);
+        assertThat(Money.parse(".5").getCents()).isEqualTo(50);
+        assertThat(Money.parse("7.").getCents()).isEqualTo(700);
+    }
+
+    @Test
+    void parseRoundsHalfUp() {
+        assertThat(Money.parse("19.994").getCents()).isEqualTo(1999);
+        assertThat(Money.parse("19.995").getCents()).isEqualTo(2000);
+        assertThat(Money.parse("19.999").getCents()).isEqualTo(2000);
+        assertThat(Money.parse("0.005").getCents()).isEqualTo(1);
+        assertThat(Money.parse("0.0049999").getCents()).isEqualTo(0);
+    }
+
+    @Test
+    void parseRoundsNegativeAmountsAwayFromZero() {
+        assertThat(Money.parse("-3.5").getCents()).isEqualTo(-350);
+        assertThat(Money.parse("-0.005").getCents()).isEqualTo(-1);
+        assertThat(Money.parse("-19.995").getCents()).isEqualTo(-2000);
+        assertThat(Money.parse("+1.234").getCents()).isEqualTo(123);
+    }
+
+    @Test
+    void parseMatchesBigDecimalHalfUp() {
+        String[] amounts = {"0", "0.01", "0.125", "0.135", "-0.125", "1.445", "99.995", "-99.994",
+                "123456.785", "2.5000001", "-7.4999"};
+        for (String amount : amounts) {
+            long expected = new BigDecimal(amount).setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+            assertThat(Money.parse(amount).getCents()).as(amount).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void parseHandsExponentNotationToBigDecimal() {
+        assertThat(Money.parse("1.2345E2").getCents()).isEqualTo(12345);
+        assertThat(Money.parse("5e-3").getCents()).isEqualTo(1);
+    }
+
+    @Test
+    void parseIgnoresSurroundingWhitespace() {
+        assertThat(Money.parse("  4.20 ").getCents()).isEqualTo(420);
+    }
+
+    @Test
+    void parseReadsCharacterRange() {
+        char[] chars = "[12.345]".toCharArray();
+        assertThat(Money.parse(chars, 1, 6).getCents()).isEqualTo(1235);
+    }
+
+    @Test
+    void parseRejectsInvalidAmounts() {
+        assertThatThrownBy(() -> Money.parse("")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("-")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("1.2.3")).isInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> Money.parse("12a")).isInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void parseRejectsAmountsOverflowingCents() {
+        assertThatThrownBy(() -> Money.parse("92233720368547758.08")).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    void toStringWritesTwoDecimals() {
+        assertThat(Money.ofCents(12340)).hasToString("123.40");
+        assertThat(Money.ofCents(-5)).hasToString("-0.05");
+        assertThat(Money.ofCents(-105)).hasToString("-1.05");
+        assertThat(Money.ZERO).hasToString("0.00");
+    }
+}
@@ -0,0 +1,294 @@
+package com.expensetracker.service;
+
+import com.expensetracker.config.JacksonConfig;
+import com.expensetracker.dto.BatchCreateResponse;
+import com.expensetracker.dto.CreateExpenseRequest;
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.dto.Money;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * ApiClient against a stub backend served by the JDK HTTP server, using the application's
+ * ObjectMapper for the codecs.
+ */
+class ApiClientTest {
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+    private static final String LUNCH = "{\"id\":1,\"date\":\"2024-03-05\",\"amount\":12.5,"
+            + "\"category\":\"Food\",\"description\":\"Team lunch\"}";
+    private static final String BUS = "{\"id\":2,\"date\":\"2024-03-07\",\"amount\":\"2.905\","
+            + "\"category\":\"Transport\",\"description\":\"Bus ticket\"}";
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper();
+    private final List<HttpExchange> requests = new CopyOnWriteArrayList<>();
+    private volatile HttpHandler handler;
+    private HttpServer server;
+    private ExpenseSearchIndex searchIndex;
+    private ExpenseCache expenseCache;
+
+    @BeforeEach
+    void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            requests.add(exchange);
+            try {
+                handler.handle(exchange);
+            } finally {
+                exchange.close();
+            }
+        });
+        server.start();
+        searchIndex = new ExpenseSearchIndex(true, 120);
+        expenseCache = new ExpenseCache(searchIndex, 24, 300);
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void streamsNdjsonLineByLine() {
+        handler = exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            // Length 0 selects chunked encoding, so every line goes out as it is written
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                for (String line : List.of(LUNCH, BUS)) {
+                    body.write((line + "\n").getBytes(StandardCharsets.UTF_8));
+                    body.flush();
+                }
+            }
+        };
+        ApiClient apiClient = apiClient(true);
+
+        List<ExpenseResponse> expenses = apiClient.streamExpensesAsync(2024, 3).collectList().block();
+
+        assertThat(expenses).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(expenses.get(0).getDate()).isEqualTo(LocalDate.of(2024, 3, 5));
+        assertThat(expenses.get(0).getAmount()).isEqualTo(Money.parse("12.50"));
+        assertThat(expenses.get(1).getAmount()).isEqualTo(Money.parse("2.91"));
+        assertThat(expenses.get(1).getDescription()).isEqualTo("Bus ticket");
+
+        HttpExchange request = requests.get(0);
+        assertThat(request.getRequestURI().getPath()).isEqualTo("/expenses");
+        assertThat(request.getRequestURI().getQuery()).isEqualTo("year=2024&month=3");
+        assertThat(request.getRequestHeaders().getFirst("Accept")).contains("application/x-ndjson");
+    }
+
+    @Test
+    void streamsJsonArrayElementByElement() {
+        handler = exchange -> respond(exchange, 200, "[" + LUNCH + "," + BUS + "]");
+        ApiClient apiClient = apiClient(true);
+
+        List<ExpenseResponse> expenses = apiClient.streamExpensesAsync(2024, 3).collectList().block();
+
+        assertThat(expenses).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(expenses).extracting(ExpenseResponse::getCategory).containsExactly("Food", "Transport");
+    }
+
+    @Test
+    void completedStreamFillsCacheAndSearchIndex() {
+        handler = exchange -> respond(exchange, 200, "[" + LUNCH + "," + BUS + "]");
+        ApiClient apiClient = apiClient(true);
+
+        apiClient.streamExpensesAsync(2024, 3).collectList().block();
+        List<ExpenseResponse> again = apiClient.streamExpensesAsync(2024, 3).collectList().block();
+
+        assertThat(requests).hasSize(1);
+        assertThat(again).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(expenseCache.getColumns(MARCH).getTotalCents()).isEqualTo(1541);
+        assertThat(searchIndex.search("lunch", 10)).extracting(ExpenseResponse::getId).containsExactly(1);
+    }
+
+    @Test
+    void readersJoinAStreamInFlightInsteadOfRequestingAgain() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        handler = exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/x-ndjson");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write((LUNCH + "\n").getBytes(StandardCharsets.UTF_8));
+                body.flush();
+                requested.countDown();
+                release.await(5, TimeUnit.SECONDS);
+                body.write((BUS + "\n").getBytes(StandardCharsets.UTF_8));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ApiClient apiClient = apiClient(true);
+
+        CompletableFuture<List<ExpenseResponse>> streamed = apiClient.streamExpensesAsync(2024, 3).collectList().toFuture();
+        assertThat(requested.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<MonthColumns> listed = apiClient.listColumnsAsync(2024, 3).toFuture();
+        CompletableFuture<List<ExpenseResponse>> joined = apiClient.streamExpensesAsync(2024, 3).collectList().toFuture();
+        release.countDown();
+
+        assertThat(streamed.get(5, TimeUnit.SECONDS)).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(listed.get(5, TimeUnit.SECONDS).size()).isEqualTo(2);
+        assertThat(joined.get(5, TimeUnit.SECONDS)).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(requests).hasSize(1);
+    }
+
+    @Test
+    void expiredStreamedMonthIsRevalidatedWithAConditionalGet() {
+        expenseCache = new ExpenseCache(searchIndex, 24, 0);
+        handler = exchange -> {
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+            exchange.getResponseHeaders().set("ETag", "\"v1\"");
+            respond(exchange, 200, "[" + LUNCH + "," + BUS + "]");
+        };
+        ApiClient apiClient = apiClient(true);
+
+        apiClient.streamExpensesAsync(2024, 3).collectList().block();
+        List<ExpenseResponse> again = apiClient.streamExpensesAsync(2024, 3).collectList().block();
+
+        assertThat(requests).hasSize(2);
+        assertThat(requests.get(1).getRequestHeaders().getFirst("If-None-Match")).isEqualTo("\"v1\"");
+        assertThat(again).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+    }
+
+    @Test
+    void failedStreamIsReportedAndNotCached() {
+        handler = exchange -> respond(exchange, 500, "backend down");
+        ApiClient apiClient = apiClient(true);
+
+        assertThatThrownBy(() -> apiClient.streamExpensesAsync(2024, 3).collectList().block())
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Failed to stream expenses: backend down");
+        assertThat(expenseCache.getColumns(MARCH)).isNull();
+    }
+
+    @Test
+    void streamingOffReadsTheMonthListing() {
+        handler = exchange -> respond(exchange, 200, "{\"expenses\":[" + LUNCH + "," + BUS + "],"
+                + "\"total\":15.41,\"count\":2,\"year\":2024,\"month\":3}");
+        ApiClient apiClient = apiClient(false);
+
+        List<ExpenseResponse> expenses = apiClient.streamExpensesAsync(2024, 3).collectList().block();
+
+        assertThat(expenses).extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(requests).hasSize(1);
+        assertThat(expenseCache.getColumns(MARCH).size()).isEqualTo(2);
+    }
+
+    @Test
+    void batchChunksAreMergedWithFailureIndexesIntoTheOriginalList() {
+        handler = exchange -> {
+            JsonNode expenses = objectMapper.readTree(exchange.getRequestBody()).get("expenses");
+            StringBuilder created = new StringBuilder();
+            StringBuilder failed = new StringBuilder();
+            int createdCount = 0;
+            for (int i = 0; i < expenses.size(); i++) {
+                String description = expenses.get(i).get("description").asText();
+                if (description.equals("boom")) {
+                    respond(exchange, 500, "backend down");
+                    return;
+                }
+                if (description.startsWith("bad")) {
+                    failed.append(failed.length() > 0 ? "," : "")
+                            .append("{\"index\":").append(i).append(",\"error\":\"invalid\"}");
+                } else {
+                    int id = Integer.parseInt(description.substring(2));
+                    created.append(created.length() > 0 ? "," : "")
+                            .append("{\"id\":").append(id).append(",\"date\":\"2024-03-05\",\"amount\":1,")
+                            .append("\"category\":\"Food\",\"description\":\"").append(description).append("\"}");
+                    createdCount++;
+                }
+            }
+            respond(exchange, 200, "{\"created\":[" + created + "],\"failed\":[" + failed + "],"
+                    + "\"totalCreated\":" + createdCount + "}");
+        };
+        ApiClient apiClient = apiClient(false, 2);
+
+        // Chunks of two: [ok0, bad1], [ok2, bad3], [boom4, ok5]; the last chunk fails as a whole
+        BatchCreateResponse response = apiClient.batchCreateExpensesAsync(List.of(
+                expense("ok0"), expense("bad1"), expense("ok2"), expense("bad3"), expense("boom"), expense("ok5")))
+                .block();
+
+        assertThat(requests).hasSize(3);
+        assertThat(response.getCreated()).extracting(ExpenseResponse::getId).containsExactly(0, 2);
+        assertThat(response.getTotalCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).extracting(BatchCreateResponse.BatchFailure::getIndex)
+                .containsExactly(1, 3, 4, 5);
+        assertThat(response.getFailed()).extracting(BatchCreateResponse.BatchFailure::getError)
+                .containsExactly("invalid", "invalid",
+                        "Failed to batch create expenses: backend down", "Failed to batch create expenses: backend down");
+    }
+
+    @Test
+    void batchWithinOneChunkIsPostedOnce() {
+        handler = exchange -> respond(exchange, 200, "{\"created\":[" + LUNCH + "],\"failed\":[],\"totalCreated\":1}");
+        ApiClient apiClient = apiClient(false, 2);
+
+        BatchCreateResponse response = apiClient.batchCreateExpensesAsync(List.of(expense("ok1"), expense("ok2")))
+                .block();
+
+        assertThat(requests).hasSize(1);
+        assertThat(requests.get(0).getRequestURI().getPath()).isEqualTo("/expenses/batch");
+        assertThat(response.getTotalCreated()).isEqualTo(1);
+    }
+
+    private ApiClient apiClient(boolean streamingEnabled) {
+        return apiClient(streamingEnabled, 100);
+    }
+
+    private ApiClient apiClient(boolean streamingEnabled, int batchChunkSize) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort())
+                .codecs(codecs -> {
+                    codecs.defaultCodecs().jackson2JsonEncoder(new Jackson2JsonEncoder(objectMapper));
+                    codecs.defaultCodecs().jackson2JsonDecoder(new Jackson2JsonDecoder(objectMapper));
+                })
+                .build();
+        BackendLimits limits = new BackendLimits(new MockEnvironment(), new SimpleMeterRegistry());
+        ResiliencePolicy resilience = new ResiliencePolicy(limits, 0, 10, 10, 0, 5, 30000, false, 20);
+        return new ApiClient(webClient, expenseCache, resilience, streamingEnabled, false, batchChunkSize, 4);
+    }
+
+    private static CreateExpenseRequest expense(String description) {
+        return new CreateExpenseRequest(LocalDate.of(2024, 3, 5), new BigDecimal("1.00"), "Food", description);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", status < 400 ? "application/json" : "text/plain");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.expensetracker.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CircuitBreakerTest {
+    private static final Predicate<Throwable> TRANSIENT = e -> e instanceof IllegalStateException;
+    private static final long LONG_OPEN_MS = 60_000;
+
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    void opensAfterConsecutiveFailures() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN_MS);
+        failTimes(breaker, 3);
+
+        assertRejected(breaker);
+        assertThat(calls).hasValue(3);
+    }
+
+    @Test
+    void successResetsTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN_MS);
+        failTimes(breaker, 2);
+        succeed(breaker);
+        failTimes(breaker, 2);
+
+        succeed(breaker);
+        assertThat(calls).hasValue(6);
+    }
+
+    @Test
+    void errorsThatAreNotFailuresKeepTheCircuitClosed() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, LONG_OPEN_MS);
+        for (int i = 0; i < 5; i++) {
+            Mono<Integer> call = Mono.defer(() -> {
+                calls.incrementAndGet();
+                return Mono.error(new IllegalArgumentException("bad request"));
+            });
+            assertThatThrownBy(() -> breaker.protect(call, TRANSIENT).block())
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        succeed(breaker);
+        assertThat(calls).hasValue(6);
+    }
+
+    @Test
+    void successfulTrialClosesTheCircuit() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 0);
+        failTimes(breaker, 3);
+
+        succeed(breaker);
+        // Closed again: it takes the full threshold of failures to open it
+        failTimes(breaker, 2);
+        succeed(breaker);
+        assertThat(calls).hasValue(7);
+    }
+
+    @Test
+    void failedTrialOpensTheCircuitAgain() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 200);
+        failTimes(breaker, 3);
+        assertRejected(breaker);
+
+        Thread.sleep(300);
+        failTimes(breaker, 1);
+
+        assertRejected(breaker);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void halfOpenLetsOnlyOneTrialThrough() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 1, 0);
+        failTimes(breaker, 1);
+
+        Disposable trial = breaker.protect(Mono.never(), TRANSIENT).subscribe();
+        assertRejected(breaker);
+
+        // A cancelled trial frees the slot for the next one
+        trial.dispose();
+        succeed(breaker);
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void bulkheadRejectionsDoNotResetTheFailureCount() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, LONG_OPEN_MS);
+        failTimes(breaker, 2);
+        rejectInBulkhead(breaker);
+        failTimes(breaker, 1);
+
+        assertRejected(breaker);
+    }
+
+    @Test
+    void bulkheadRejectionDoesNotCloseAHalfOpenCircuit() throws InterruptedException {
+        CircuitBreaker breaker = new CircuitBreaker("test", 3, 200);
+        failTimes(breaker, 3);
+        Thread.sleep(300);
+
+        rejectInBulkhead(breaker);
+        // Still half-open: the rejection gave the trial slot back, and one failed trial reopens the circuit
+        failTimes(breaker, 1);
+
+        assertRejected(breaker);
+        assertThat(calls).hasValue(4);
+    }
+
+    @Test
+    void streamsCountWhenTheyTerminate() {
+        CircuitBreaker breaker = new CircuitBreaker("test", 2, LONG_OPEN_MS);
+        Flux<Integer> failing = Flux.concat(Flux.just(1, 2), Flux.error(new IllegalStateException("down")));
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> breaker.protect(failing, TRANSIENT).collectList().block())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThatThrownBy(() -> breaker.protect(Flux.just(1), TRANSIENT).collectList().block())
+                .isInstanceOf(CircuitBreaker.CircuitOpenException.class);
+    }
+
+    private void failTimes(CircuitBreaker breaker, int times) {
+        for (int i = 0; i < times; i++) {
+            Mono<Integer> call = Mono.defer(() -> {
+                calls.incrementAndGet();
+                return Mono.error(new IllegalStateException("down"));
+            });
+            assertThatThrownBy(() -> breaker.protect(call, TRANSIENT).block())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private void rejectInBulkhead(CircuitBreaker breaker) {
+        Mono<Integer> call = Mono.error(new ConcurrencyLimiter.LimitExceededException("test", "queue full"));
+        assertThatThrownBy(() -> breaker.protect(call, TRANSIENT).block())
+                .isInstanceOf(ConcurrencyLimiter.LimitExceededException.class);
+    }
+
+    private void succeed(CircuitBreaker breaker) {
+        assertThat(breaker.protect(Mono.fromCallable(calls::incrementAndGet), TRANSIENT).block()).isNotNull();
+    }
+
+    private void assertRejected(CircuitBreaker breaker) {
+        assertThatThrownBy(() -> breaker.protect(Mono.fromCallable(calls::incrementAndGet), TRANSIENT).block())
+                .isInstanceOf(CircuitBreaker.CircuitOpenException.class);
+    }
+}
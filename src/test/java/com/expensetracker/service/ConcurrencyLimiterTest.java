@@ -0,0 +1,161 @@
+package com.expensetracker.service;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterTest {
+    private static final Predicate<Throwable> OVERLOAD = e -> e instanceof IllegalStateException;
+    private static final Duration LONG_WAIT = Duration.ofSeconds(30);
+
+    private final AtomicInteger started = new AtomicInteger();
+
+    @Test
+    void queuesCallsBeyondTheLimit() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 2, 4, LONG_WAIT, false);
+        Sinks.One<String> first = Sinks.one();
+        limiter.limit(held(first), OVERLOAD).subscribe();
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+
+        assertThat(started).hasValue(2);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+
+        first.tryEmitValue("done");
+
+        assertThat(started).hasValue(3);
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void errorsReleaseTheSlot() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 1, 4, LONG_WAIT, false);
+        Sinks.One<String> first = Sinks.one();
+        limiter.limit(held(first), OVERLOAD).subscribe(value -> { }, e -> { });
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+
+        first.tryEmitError(new IllegalArgumentException("bad request"));
+
+        assertThat(started).hasValue(2);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isZero();
+    }
+
+    @Test
+    void rejectsWhenTheQueueIsFull() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 1, 1, LONG_WAIT, false);
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+
+        List<Throwable> errors = new ArrayList<>();
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe(value -> { }, errors::add);
+
+        assertThat(errors).singleElement().isInstanceOf(ConcurrencyLimiter.LimitExceededException.class);
+        assertThat(limiter.getRejections()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isEqualTo(1);
+        assertThat(started).hasValue(1);
+    }
+
+    @Test
+    void rejectsCallsThatWaitTooLong() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 1, 4, Duration.ofMillis(50), false);
+        limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+
+        assertThatThrownBy(() -> limiter.limit(held(Sinks.one()), OVERLOAD).block())
+                .isInstanceOf(ConcurrencyLimiter.LimitExceededException.class)
+                .hasMessageContaining("timed out");
+        assertThat(limiter.getRejections()).isEqualTo(1);
+        assertThat(limiter.getQueueDepth()).isZero();
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+    }
+
+    @Test
+    void cancelledCallsLeaveTheQueueAndFreeTheirSlot() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 1, 4, LONG_WAIT, false);
+        Disposable running = limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+        Disposable queued = limiter.limit(held(Sinks.one()), OVERLOAD).subscribe();
+
+        queued.dispose();
+        assertThat(limiter.getQueueDepth()).isZero();
+
+        running.dispose();
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(started).hasValue(1);
+    }
+
+    @Test
+    void streamsHoldTheirSlotUntilTheyTerminate() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 1, 4, LONG_WAIT, false);
+        Sinks.Many<Integer> stream = Sinks.many().unicast().onBackpressureBuffer();
+        limiter.limit(stream.asFlux(), OVERLOAD).subscribe();
+
+        stream.tryEmitNext(1);
+        assertThat(limiter.getInFlight()).isEqualTo(1);
+
+        stream.tryEmitComplete();
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.limit(Flux.just(1, 2), OVERLOAD).collectList().block()).containsExactly(1, 2);
+    }
+
+    @Test
+    void adaptiveLimitBacksOffOnOverloadAndRecovers() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 10, 4, LONG_WAIT, true);
+
+        overload(limiter);
+        assertThat(limiter.getLimit()).isEqualTo(9);
+
+        // Growth is one per limit-many successes, so about nine calls win the slot back
+        for (int i = 0; i < 9; i++) {
+            limiter.limit(Mono.just(i), OVERLOAD).block();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(9);
+        limiter.limit(Mono.just(9), OVERLOAD).block();
+        assertThat(limiter.getLimit()).isEqualTo(10);
+
+        for (int i = 0; i < 10; i++) {
+            limiter.limit(Mono.just(i), OVERLOAD).block();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    @Test
+    void adaptiveLimitNeverDropsBelowOne() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 4, 4, LONG_WAIT, true);
+        for (int i = 0; i < 50; i++) {
+            overload(limiter);
+        }
+        assertThat(limiter.getLimit()).isEqualTo(1);
+    }
+
+    @Test
+    void staticLimitIgnoresOverload() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter("test", 10, 4, LONG_WAIT, false);
+        overload(limiter);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+    }
+
+    private Mono<String> held(Sinks.One<String> sink) {
+        return Mono.defer(() -> {
+            started.incrementAndGet();
+            return sink.asMono();
+        });
+    }
+
+    private static void overload(ConcurrencyLimiter limiter) {
+        assertThatThrownBy(() -> limiter.limit(Mono.error(new IllegalStateException("503")), OVERLOAD).block())
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
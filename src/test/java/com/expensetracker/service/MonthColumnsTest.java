@@ -0,0 +1,159 @@
+package com.expensetracker.service;
+
+import com.expensetracker.dto.ExpenseResponse;
+import com.expensetracker.dto.ListExpensesResponse;
+import com.expensetracker.dto.Money;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonthColumnsTest {
+    private static final YearMonth MARCH = YearMonth.of(2024, 3);
+
+    // Fetch order is deliberately not ID order, and several rows share dates, amounts and categories
+    private final MonthColumns columns = MonthColumns.of(MARCH, List.of(
+            expense(5, 10, "12.00", "Food", "lunch"),
+            expense(2, 3, "4.50", "Transport", "bus"),
+            expense(9, 10, "4.50", null, "coffee"),
+            expense(1, 3, "30.00", "Food", null),
+            expense(7, 21, "12.00", "Food", "dinner")));
+
+    @Test
+    void sortsByDateWithIdTieBreak() {
+        assertThat(ids(columns.sort(columns.rows(), "date", true))).containsExactly(1, 2, 5, 9, 7);
+        assertThat(ids(columns.sort(columns.rows(), "date", false))).containsExactly(7, 5, 9, 1, 2);
+    }
+
+    @Test
+    void defaultsToDateOrder() {
+        assertThat(ids(columns.sort(columns.rows(), null, true))).containsExactly(1, 2, 5, 9, 7);
+    }
+
+    @Test
+    void sortsByAmountWithIdTieBreak() {
+        assertThat(ids(columns.sort(columns.rows(), "amount", true))).containsExactly(2, 9, 5, 7, 1);
+        assertThat(ids(columns.sort(columns.rows(), "amount", false))).containsExactly(1, 5, 7, 2, 9);
+    }
+
+    @Test
+    void sortsByCategoryWithMissingCategoryFirst() {
+        assertThat(ids(columns.sort(columns.rows(), "category", true))).containsExactly(9, 1, 5, 7, 2);
+        assertThat(ids(columns.sort(columns.rows(), "category", false))).containsExactly(2, 1, 5, 7, 9);
+    }
+
+    @Test
+    void sortsByDescriptionWithMissingDescriptionFirst() {
+        assertThat(ids(columns.sort(columns.rows(), "description", true))).containsExactly(1, 2, 9, 7, 5);
+        assertThat(ids(columns.sort(columns.rows(), "description", false))).containsExactly(5, 7, 9, 2, 1);
+    }
+
+    @Test
+    void sortsById() {
+        assertThat(ids(columns.sort(columns.rows(), "id", true))).containsExactly(1, 2, 5, 7, 9);
+        assertThat(ids(columns.sort(columns.rows(), "id", false))).containsExactly(9, 7, 5, 2, 1);
+    }
+
+    @Test
+    void sortsAmountsBeyondIntRange() {
+        MonthColumns large = MonthColumns.of(MARCH, List.of(
+                expense(1, 1, "30000000.00", "Rent", "a"),
+                expense(2, 1, "-30000000.00", "Rent", "b"),
+                expense(3, 1, "1.00", "Rent", "c")));
+        assertThat(ids(large, large.sort(large.rows(), "amount", true))).containsExactly(2, 3, 1);
+        assertThat(ids(large, large.sort(large.rows(), "amount", false))).containsExactly(1, 3, 2);
+    }
+
+    @Test
+    void filtersByCategoryInFetchOrder() {
+        assertThat(ids(columns.filter("Food"))).containsExactly(5, 1, 7);
+        assertThat(ids(columns.filter("Transport"))).containsExactly(2);
+        assertThat(ids(columns.filter("Rent"))).isEmpty();
+        assertThat(ids(columns.filter(null))).containsExactly(5, 2, 9, 1, 7);
+    }
+
+    @Test
+    void listsTheMonthsCategoriesSorted() {
+        assertThat(columns.getCategories()).containsExactly("Food", "Transport");
+    }
+
+    @Test
+    void pagesFilteredRowsWithTheirOwnTotals() {
+        ListExpensesResponse page = columns.page("Food", "amount", true, 0, 2);
+
+        assertThat(page.getExpenses()).extracting(ExpenseResponse::getId).containsExactly(5, 7);
+        assertThat(page.getTotal()).isEqualTo(Money.parse("54.00"));
+        assertThat(page.getCount()).isEqualTo(3);
+        assertThat(columns.page("Food", "amount", true, 2, 2).getExpenses())
+                .extracting(ExpenseResponse::getId).containsExactly(1);
+    }
+
+    @Test
+    void pagesOfAnAbsentCategoryAreEmpty() {
+        ListExpensesResponse page = columns.page("Rent", "date", true, 0, 10);
+
+        assertThat(page.getExpenses()).isEmpty();
+        assertThat(page.getTotal()).isEqualTo(Money.ZERO);
+        assertThat(page.getCount()).isZero();
+    }
+
+    @Test
+    void pagesDoNotOverlapOnTies() {
+        ListExpensesResponse first = columns.page("amount", true, 0, 2);
+        ListExpensesResponse second = columns.page("amount", true, 2, 2);
+        ListExpensesResponse third = columns.page("amount", true, 4, 2);
+
+        assertThat(first.getExpenses()).extracting(ExpenseResponse::getId).containsExactly(2, 9);
+        assertThat(second.getExpenses()).extracting(ExpenseResponse::getId).containsExactly(5, 7);
+        assertThat(third.getExpenses()).extracting(ExpenseResponse::getId).containsExactly(1);
+    }
+
+    @Test
+    void pageTotalsDescribeTheWholeMonth() {
+        ListExpensesResponse page = columns.page("date", false, 1, 2);
+
+        assertThat(page.getExpenses()).hasSize(2);
+        assertThat(page.getTotal()).isEqualTo(Money.parse("63.00"));
+        assertThat(page.getCount()).isEqualTo(5);
+        assertThat(page.getYear()).isEqualTo(2024);
+        assertThat(page.getMonth()).isEqualTo(3);
+    }
+
+    @Test
+    void pageClampsOffsetAndLimit() {
+        assertThat(columns.page("date", true, 10, 5).getExpenses()).isEmpty();
+        assertThat(columns.page("date", true, -3, 2).getExpenses())
+                .extracting(ExpenseResponse::getId).containsExactly(1, 2);
+        assertThat(columns.page("date", true, 3, Integer.MAX_VALUE).getExpenses())
+                .extracting(ExpenseResponse::getId).containsExactly(9, 7);
+        assertThat(columns.page("date", true, 0, -1).getExpenses()).isEmpty();
+    }
+
+    @Test
+    void pageRowsCarryTheExpenseFields() {
+        ExpenseResponse row = columns.page("id", true, 0, 1).getExpenses().get(0);
+
+        assertThat(row.getId()).isEqualTo(1);
+        assertThat(row.getDate()).isEqualTo(MARCH.atDay(3));
+        assertThat(row.getAmount()).isEqualTo(Money.parse("30.00"));
+        assertThat(row.getCategory()).isEqualTo("Food");
+        assertThat(row.getDescription()).isNull();
+    }
+
+    private int[] ids(int[] rows) {
+        return ids(columns, rows);
+    }
+
+    private static int[] ids(MonthColumns columns, int[] rows) {
+        return Arrays.stream(rows).map(columns::getId).toArray();
+    }
+
+    private static ExpenseResponse expense(int id, int day, String amount, String category, String description) {
+        return new ExpenseResponse(id, LocalDate.of(2024, 3, day), Money.parse(amount), category, description,
+                null, null);
+    }
+}